@@ -0,0 +1,25 @@
+package com.cognify.Config;
+
+import com.cognify.util.IsoLocalDateTimeSerializer;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.LocalDateTime;
+
+@Configuration
+public class JacksonConfig {
+
+    // Replaces reflective getter/setter calls with generated lambdas
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer localDateTimeSerializerCustomizer() {
+        return builder -> builder.serializerByType(LocalDateTime.class, new IsoLocalDateTimeSerializer());
+    }
+}
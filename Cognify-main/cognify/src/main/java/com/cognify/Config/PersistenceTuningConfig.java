@@ -0,0 +1,43 @@
+package com.cognify.Config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+// Derives the Hikari pool size from core count unless spring.datasource.hikari.maximum-pool-size
+// is set explicitly. Uses HikariCP's sizing rule: connections = (cores * 2) + 1, where cores are
+// the database server's (cognify.datasource.database-cores, defaulting to this JVM's processors).
+// A small fixed pool keeps Postgres from context switching between more active queries than it
+// has cores; extra requests queue in Hikari, which shows up as hikaricp.connections.pending
+// and the hikaricp.connections.acquire timer in /actuator/metrics.
+@Slf4j
+@Configuration
+public class PersistenceTuningConfig {
+
+    private static final String MAX_POOL_SIZE_PROPERTY = "spring.datasource.hikari.maximum-pool-size";
+
+    // static so the post-processor is registered before the DataSource is created
+    @Bean
+    public static BeanPostProcessor hikariPoolSizer(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource && !environment.containsProperty(MAX_POOL_SIZE_PROPERTY)) {
+                    int cores = environment.getProperty("cognify.datasource.database-cores", Integer.class,
+                            Runtime.getRuntime().availableProcessors());
+                    int cap = environment.getProperty("cognify.datasource.max-pool-size-cap", Integer.class, 50);
+                    int poolSize = Math.min(cores * 2 + 1, cap);
+                    // The pool starts on the first getConnection(), so it can still be resized here
+                    dataSource.setMaximumPoolSize(poolSize);
+                    dataSource.setMinimumIdle(poolSize);
+                    log.info("Sized connection pool {} to {} connections for {} database cores",
+                            dataSource.getPoolName(), poolSize, cores);
+                }
+                return bean;
+            }
+        };
+    }
+}
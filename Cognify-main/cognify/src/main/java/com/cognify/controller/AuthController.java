@@ -2,6 +2,7 @@ package com.cognify.controller;
 
 import com.cognify.dto.ApiResponse;
 import com.cognify.dto.LoginRequest;
+import com.cognify.dto.LoginResponse;
 import com.cognify.dto.RegisterRequest;
 import com.cognify.dto.UserDto;
 import com.cognify.entity.User;
@@ -20,9 +21,6 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.HashMap;
-import java.util.Map;
-
 @Slf4j
 @RestController
 @RequestMapping("/api/auth")
@@ -36,7 +34,7 @@ public class AuthController {
     private final JwtUtil jwtUtil;
     
     @PostMapping("/register")
-    public ResponseEntity<ApiResponse> register(@Valid @RequestBody RegisterRequest request) {
+    public ResponseEntity<ApiResponse<UserDto>> register(@Valid @RequestBody RegisterRequest request) {
         try {
             log.info("Registration attempt for username: {}", request.getUsername());
             
@@ -46,14 +44,14 @@ public class AuthController {
             log.info("User registered successfully with ID: {}", userDto.getId());
             
             return new ResponseEntity<>(
-                new ApiResponse(true, "User registered successfully", userDto),
+                new ApiResponse<>(true, "User registered successfully", userDto),
                 HttpStatus.CREATED
             );
                     
         } catch (RuntimeException e) {
             log.error("Registration failed: {}", e.getMessage());
             return new ResponseEntity<>(
-                new ApiResponse(false, e.getMessage()),
+                new ApiResponse<>(false, e.getMessage()),
                 HttpStatus.BAD_REQUEST
             );
         }
@@ -77,21 +75,17 @@ public class AuthController {
             User user = userService.findByUsername(request.getUsername());
             
             // Generate tokens
-            String accessToken = jwtUtil.generateToken(userDetails);
-            String refreshToken = jwtUtil.generateRefreshToken(userDetails);
+            String accessToken = jwtUtil.generateToken(userDetails, user.getTenantId());
+            String refreshToken = jwtUtil.generateRefreshToken(userDetails, user.getTenantId());
             
             // Prepare response
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("access_token", accessToken);
-            response.put("refresh_token", refreshToken);
-            response.put("expires_in", 3600);
-            
-            Map<String, Object> userInfo = new HashMap<>();
-            userInfo.put("id", user.getId());
-            userInfo.put("username", user.getUsername());
-            userInfo.put("role", user.getRole().name().toLowerCase());
-            response.put("user", userInfo);
+            LoginResponse response = new LoginResponse(
+                true,
+                accessToken,
+                refreshToken,
+                jwtUtil.getExpirationSeconds(),
+                new LoginResponse.LoginUser(user.getId(), user.getUsername(), user.getRole().name().toLowerCase())
+            );
             
             log.info("Login successful for username: {}", request.getUsername());
             
@@ -100,7 +94,7 @@ public class AuthController {
         } catch (BadCredentialsException e) {
             log.error("Login failed - Invalid credentials for username: {}", request.getUsername());
             return new ResponseEntity<>(
-                new ApiResponse(false, "Invalid username or password"),
+                new ApiResponse<>(false, "Invalid username or password"),
                 HttpStatus.UNAUTHORIZED
             );
         }
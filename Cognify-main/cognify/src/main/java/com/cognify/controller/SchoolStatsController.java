@@ -0,0 +1,32 @@
+package com.cognify.controller;
+
+import com.cognify.dto.SchoolStatsDto;
+import com.cognify.service.SchoolStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/stats/schools")
+@CrossOrigin(origins = "http://localhost:3000")
+@RequiredArgsConstructor
+public class SchoolStatsController {
+
+    private final SchoolStatsService schoolStatsService;
+
+    @GetMapping
+    public ResponseEntity<List<SchoolStatsDto>> getAllSchoolStats() {
+        log.info("Fetching user stats for all schools");
+        return ResponseEntity.ok(schoolStatsService.getAllSchoolStats());
+    }
+
+    @GetMapping("/{schoolName}")
+    public ResponseEntity<SchoolStatsDto> getSchoolStats(@PathVariable String schoolName) {
+        log.info("Fetching user stats for school: {}", schoolName);
+        return ResponseEntity.ok(schoolStatsService.getSchoolStats(schoolName));
+    }
+}
@@ -0,0 +1,25 @@
+package com.cognify.controller;
+
+import com.cognify.dto.TenantDto;
+import com.cognify.service.TenantService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/tenant")
+@CrossOrigin(origins = "http://localhost:3000")
+@RequiredArgsConstructor
+public class TenantController {
+
+    private final TenantService tenantService;
+
+    // The caller's school, including the join code for inviting new members
+    @GetMapping
+    public ResponseEntity<TenantDto> getCurrentTenant() {
+        log.info("Fetching current tenant");
+        return ResponseEntity.ok(tenantService.getCurrentTenant());
+    }
+}
@@ -1,6 +1,8 @@
 package com.cognify.controller;
 
+import com.cognify.dto.UserChangePage;
 import com.cognify.dto.UserDto;
+import com.cognify.service.UserChangeService;
 import com.cognify.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -9,6 +11,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Set;
 
 @Slf4j
 @RestController
@@ -18,21 +21,43 @@ import java.util.List;
 public class UserController {
 
     private final UserService userService;
+    private final UserChangeService userChangeService;
 
     @GetMapping("/{userId}")
-    public ResponseEntity<UserDto> getUserById(@PathVariable Long userId) {
+    public ResponseEntity<UserDto> getUserById(@PathVariable Long userId,
+                                               @RequestParam(required = false) Set<String> fields) {
         log.info("Fetching user with ID: {}", userId);
-        UserDto userDto = userService.getUserById(userId);
+        UserDto userDto = fields == null
+                ? userService.getUserById(userId)
+                : userService.getUserById(userId, fields);
         return ResponseEntity.ok(userDto);
     }
 
     @GetMapping
-    public ResponseEntity<List<UserDto>> getAllUsers() {
-        log.info("Fetching all users");
-        List<UserDto> users = userService.getAllUsers();
+    public ResponseEntity<List<UserDto>> getAllUsers(@RequestParam(required = false) List<Long> ids,
+                                                     @RequestParam(required = false) Set<String> fields) {
+        List<UserDto> users;
+        if (ids != null) {
+            log.info("Fetching users by IDs: {}", ids);
+            users = userService.getUsersByIds(ids, fields);
+        } else if (fields != null) {
+            log.info("Fetching fields {} of all users", fields);
+            users = userService.getAllUsers(fields);
+        } else {
+            log.info("Fetching all users");
+            users = userService.getAllUsers();
+        }
         return ResponseEntity.ok(users);
     }
 
+    @GetMapping("/changes")
+    public ResponseEntity<UserChangePage> getUserChanges(@RequestParam(defaultValue = "0") Long since,
+                                                         @RequestParam(defaultValue = "100") int size) {
+        log.info("Fetching user changes since sequence: {}", since);
+        UserChangePage changes = userChangeService.getChangesSince(since, size);
+        return ResponseEntity.ok(changes);
+    }
+
     @PutMapping("/{userId}")
     public ResponseEntity<UserDto> updateUserById(@PathVariable Long userId, @RequestBody UserDto userDto) {
         log.info("Updating user with ID: {}", userId);
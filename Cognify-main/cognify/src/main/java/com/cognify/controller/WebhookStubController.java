@@ -0,0 +1,25 @@
+package com.cognify.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+// Local receiver for the webhook sink, for development without a real downstream consumer
+@Slf4j
+@RestController
+@RequestMapping("/api/outbox/webhook-stub")
+@ConditionalOnProperty(name = "cognify.outbox.webhook.stub-enabled", havingValue = "true")
+public class WebhookStubController {
+
+    @PostMapping
+    public ResponseEntity<Void> receive(@RequestBody List<JsonNode> batch) {
+        log.info("Webhook stub received {} user changes", batch.size());
+        batch.forEach(change -> log.debug("User change {}: {} for user ID: {}",
+                change.path("id"), change.path("changeType").asText(), change.path("userId")));
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -11,11 +11,11 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @JsonInclude(JsonInclude.Include.NON_NULL)
-public class ApiResponse {
+public class ApiResponse<T> {
     
     private boolean success;
     private String message;
-    private Object data;
+    private T data;
     private LocalDateTime timestamp;
     
     // Constructor with success and message only
@@ -26,7 +26,7 @@ public class ApiResponse {
     }
     
     // Constructor with success, message, and data
-    public ApiResponse(boolean success, String message, Object data) {
+    public ApiResponse(boolean success, String message, T data) {
         this.success = success;
         this.message = message;
         this.data = data;
@@ -0,0 +1,15 @@
+package com.cognify.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+// Typed login result; property names match the snake_case payload clients already consume
+public record LoginResponse(
+        boolean success,
+        @JsonProperty("access_token") String accessToken,
+        @JsonProperty("refresh_token") String refreshToken,
+        @JsonProperty("expires_in") long expiresIn,
+        LoginUser user) {
+
+    public record LoginUser(Long id, String username, String role) {
+    }
+}
@@ -29,6 +29,9 @@ public class RegisterRequest {
     @NotBlank(message = "Role is required")
     private String role;
     
+    // Join code of an existing school; without one the user gets a new school of their own
+    private String schoolCode;
+    
     private ProfileRequest profile;
 
     @Data
@@ -0,0 +1,25 @@
+package com.cognify.dto;
+
+import com.cognify.entity.UserRole;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SchoolStatsDto {
+
+    private String schoolName;
+    private long totalUsers;
+    private long activeUsers;
+    private long inactiveUsers;
+    private Map<UserRole, Long> usersByRole = new EnumMap<>(UserRole.class);
+
+    public SchoolStatsDto(String schoolName) {
+        this.schoolName = schoolName;
+    }
+}
@@ -0,0 +1,17 @@
+package com.cognify.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TenantDto {
+
+    private String tenantId;
+    private String name;
+
+    // Share with new members; they pass it as schoolCode when registering
+    private String joinCode;
+}
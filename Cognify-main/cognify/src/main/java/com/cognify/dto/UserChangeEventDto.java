@@ -0,0 +1,30 @@
+package com.cognify.dto;
+
+import com.cognify.entity.UserChangeType;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserChangeEventDto {
+
+    private Long id;
+
+    // Feed position; changes are ordered by it and ?since= takes it
+    private Long sequence;
+
+    private String tenantId;
+    private Long userId;
+    private UserChangeType changeType;
+
+    // Already serialized UserDto, written out as-is instead of being parsed again
+    @JsonRawValue
+    private String user;
+
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,20 @@
+package com.cognify.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserChangePage {
+
+    private List<UserChangeEventDto> changes;
+
+    // Sequence of the last change; pass it back as ?since= to fetch the next page
+    private Long nextSince;
+
+    private boolean hasMore;
+}
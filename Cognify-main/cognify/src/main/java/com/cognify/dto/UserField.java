@@ -0,0 +1,64 @@
+package com.cognify.dto;
+
+import com.cognify.entity.UserRole;
+import com.cognify.exception.BadRequestException;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Selectable UserDto fields for ?fields=; names match both the JSON property and the User attribute
+public enum UserField {
+
+    ID("id", (dto, value) -> dto.setId((Long) value)),
+    USERNAME("username", (dto, value) -> dto.setUsername((String) value)),
+    EMAIL("email", (dto, value) -> dto.setEmail((String) value)),
+    ROLE("role", (dto, value) -> dto.setRole((UserRole) value)),
+    FIRST_NAME("firstName", (dto, value) -> dto.setFirstName((String) value)),
+    LAST_NAME("lastName", (dto, value) -> dto.setLastName((String) value)),
+    SCHOOL_NAME("schoolName", (dto, value) -> dto.setSchoolName((String) value)),
+    PHONE("phone", (dto, value) -> dto.setPhone((String) value)),
+    CREATED_AT("createdAt", (dto, value) -> dto.setCreatedAt((LocalDateTime) value)),
+    IS_ACTIVE("isActive", (dto, value) -> dto.setIsActive((Boolean) value));
+
+    private static final Map<String, UserField> BY_NAME = Arrays.stream(values())
+            .collect(Collectors.toMap(UserField::getName, Function.identity()));
+
+    private final String name;
+    private final BiConsumer<UserDto, Object> setter;
+
+    UserField(String name, BiConsumer<UserDto, Object> setter) {
+        this.name = name;
+        this.setter = setter;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void apply(UserDto dto, Object value) {
+        setter.accept(dto, value);
+    }
+
+    // Null or empty selects every field
+    public static Set<UserField> parse(Collection<String> names) {
+        if (names == null || names.isEmpty()) {
+            return EnumSet.allOf(UserField.class);
+        }
+        Set<UserField> fields = EnumSet.noneOf(UserField.class);
+        for (String name : names) {
+            UserField field = BY_NAME.get(name.trim());
+            if (field == null) {
+                throw new BadRequestException("Unknown user field: " + name);
+            }
+            fields.add(field);
+        }
+        return fields;
+    }
+}
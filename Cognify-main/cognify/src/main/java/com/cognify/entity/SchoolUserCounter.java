@@ -0,0 +1,21 @@
+package com.cognify.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Incrementally maintained user count per (tenant, school, role, active) so stats never scan users
+@Entity
+@Table(name = "school_user_counters")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SchoolUserCounter {
+
+    @EmbeddedId
+    private SchoolUserCounterId id;
+
+    @Column(name = "user_count", nullable = false)
+    private Long userCount;
+}
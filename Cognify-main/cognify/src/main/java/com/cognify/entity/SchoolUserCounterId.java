@@ -0,0 +1,29 @@
+package com.cognify.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SchoolUserCounterId implements Serializable {
+
+    @Column(name = "tenant_id", nullable = false)
+    private String tenantId;
+
+    // Users without a school are counted under an empty school name
+    @Column(name = "school_name", nullable = false)
+    private String schoolName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private UserRole role;
+
+    @Column(nullable = false)
+    private Boolean active;
+}
@@ -0,0 +1,29 @@
+package com.cognify.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// A school. Users join one with its join code; the tenant id is never taken from user input.
+@Entity
+@Table(name = "tenants")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Tenant {
+
+    @Id
+    @Column(name = "tenant_id")
+    private String tenantId;
+
+    private String name;
+
+    @Column(name = "join_code", unique = true, nullable = false, length = 64)
+    private String joinCode;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+}
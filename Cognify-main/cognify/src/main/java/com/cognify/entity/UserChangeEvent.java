@@ -0,0 +1,53 @@
+package com.cognify.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.TenantId;
+
+import java.time.LocalDateTime;
+
+// Transactional outbox row, written in the same transaction as the user mutation
+@Entity
+@Table(name = "user_outbox", indexes = {
+        @Index(name = "idx_user_outbox_published_at", columnList = "published_at, feed_seq"),
+        @Index(name = "idx_user_outbox_tenant_feed_seq", columnList = "tenant_id, feed_seq")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserChangeEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Set from the user, so the feed of a tenant only returns its own users' changes
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, updatable = false)
+    private String tenantId;
+
+    // Position in the change feed, assigned by UserChangeRelay after commit; null until then
+    @Column(name = "feed_seq", unique = true, insertable = false, updatable = false)
+    private Long feedSeq;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false)
+    private UserChangeType changeType;
+
+    // Snapshot of the UserDto as JSON
+    @Column(nullable = false, columnDefinition = "text")
+    private String payload;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+}
@@ -0,0 +1,11 @@
+package com.cognify.entity;
+
+public enum UserChangeType {
+
+    CREATED,
+    UPDATED,
+    ACTIVATED,
+    DEACTIVATED,
+    DELETED
+
+}
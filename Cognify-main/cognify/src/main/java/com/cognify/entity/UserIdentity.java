@@ -0,0 +1,29 @@
+package com.cognify.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Global username/email registry. users is partitioned by tenant, so its unique constraints
+// only hold per tenant; this unpartitioned table enforces uniqueness across all tenants.
+@Entity
+@Table(name = "user_identities")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserIdentity {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "tenant_id", nullable = false)
+    private String tenantId;
+
+    @Column(unique = true, nullable = false, length = 50)
+    private String username;
+
+    @Column(unique = true, nullable = false)
+    private String email;
+}
@@ -0,0 +1,54 @@
+package com.cognify.repository;
+
+import com.cognify.entity.SchoolUserCounter;
+import com.cognify.entity.SchoolUserCounterId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface SchoolUserCounterRepository extends JpaRepository<SchoolUserCounter, SchoolUserCounterId> {
+
+    List<SchoolUserCounter> findByIdTenantId(String tenantId);
+
+    List<SchoolUserCounter> findByIdSchoolName(String schoolName);
+
+    List<SchoolUserCounter> findByIdTenantIdAndIdSchoolName(String tenantId, String schoolName);
+
+    // Atomic upsert so concurrent mutations never lose an increment
+    @Modifying
+    @Query(value = "INSERT INTO school_user_counters (tenant_id, school_name, role, active, user_count) "
+            + "VALUES (:tenantId, :schoolName, :role, :active, :delta) "
+            + "ON CONFLICT (tenant_id, school_name, role, active) "
+            + "DO UPDATE SET user_count = school_user_counters.user_count + EXCLUDED.user_count",
+            nativeQuery = true)
+    void increment(@Param("tenantId") String tenantId,
+                   @Param("schoolName") String schoolName,
+                   @Param("role") String role,
+                   @Param("active") boolean active,
+                   @Param("delta") long delta);
+
+    // Tenants that have users or counters; a tenant whose users are all gone still needs zeroing
+    @Query(value = "SELECT tenant_id FROM school_user_counters UNION SELECT tenant_id FROM users",
+            nativeQuery = true)
+    List<String> findTenantIds();
+
+    // Row-locks the tenant's counters, so its increments wait until reconciliation commits
+    @Modifying
+    @Query(value = "UPDATE school_user_counters SET user_count = 0 WHERE tenant_id = :tenantId",
+            nativeQuery = true)
+    void resetTenant(@Param("tenantId") String tenantId);
+
+    // Recounts one tenant in a single statement; partition pruning keeps the scan to that tenant
+    @Modifying
+    @Query(value = "INSERT INTO school_user_counters (tenant_id, school_name, role, active, user_count) "
+            + "SELECT tenant_id, COALESCE(school_name, ''), role, COALESCE(is_active, true), count(*) "
+            + "FROM users WHERE tenant_id = :tenantId "
+            + "GROUP BY tenant_id, COALESCE(school_name, ''), role, COALESCE(is_active, true) "
+            + "ON CONFLICT (tenant_id, school_name, role, active) "
+            + "DO UPDATE SET user_count = EXCLUDED.user_count",
+            nativeQuery = true)
+    void recountTenant(@Param("tenantId") String tenantId);
+}
@@ -0,0 +1,23 @@
+package com.cognify.repository;
+
+import com.cognify.entity.Tenant;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface TenantRepository extends JpaRepository<Tenant, String> {
+
+    Optional<Tenant> findByJoinCode(String joinCode);
+
+    // Plain INSERT (save() would merge and SELECT first, as the id is assigned)
+    @Modifying
+    @Query(value = "INSERT INTO tenants (tenant_id, name, join_code, created_at) "
+            + "VALUES (:tenantId, :name, :joinCode, now())",
+            nativeQuery = true)
+    void insert(@Param("tenantId") String tenantId,
+                @Param("name") String name,
+                @Param("joinCode") String joinCode);
+}
@@ -0,0 +1,49 @@
+package com.cognify.repository;
+
+import com.cognify.entity.UserChangeEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface UserChangeEventRepository extends JpaRepository<UserChangeEvent, Long> {
+
+    List<UserChangeEvent> findByFeedSeqGreaterThanOrderByFeedSeqAsc(Long feedSeq, Pageable pageable);
+
+    // Transaction-scoped lock that serializes feed sequencing across relay instances
+    @Query(value = "SELECT 1 FROM (SELECT pg_advisory_xact_lock(:key)) l", nativeQuery = true)
+    Integer lockFeedSequencer(@Param("key") long key);
+
+    // Numbers committed rows that have no feed position yet. Call with lockFeedSequencer held:
+    // each run then commits before the next one starts, so positions become visible in order.
+    @Modifying
+    @Query(value = "UPDATE user_outbox o SET feed_seq = nextval('user_outbox_feed_seq') "
+            + "FROM (SELECT id FROM user_outbox WHERE feed_seq IS NULL ORDER BY id LIMIT :limit) n "
+            + "WHERE o.id = n.id",
+            nativeQuery = true)
+    int assignFeedSeq(@Param("limit") int limit);
+
+    // SKIP LOCKED lets several relay instances drain the outbox without blocking each other.
+    // Only sequenced rows, so relaying never holds locks the sequencer would wait on.
+    @Query(value = "SELECT * FROM user_outbox WHERE published_at IS NULL AND feed_seq IS NOT NULL "
+            + "ORDER BY feed_seq LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<UserChangeEvent> lockUnpublished(@Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE UserChangeEvent e SET e.publishedAt = :publishedAt WHERE e.id IN :ids")
+    int markPublished(@Param("ids") List<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+
+    // Deletes at most :limit rows per call so a large backlog is purged in short transactions
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM user_outbox WHERE id IN ("
+            + "SELECT id FROM user_outbox WHERE published_at < :cutoff ORDER BY id LIMIT :limit)",
+            nativeQuery = true)
+    int deletePublishedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+}
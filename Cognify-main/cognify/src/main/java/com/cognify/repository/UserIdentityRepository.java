@@ -0,0 +1,39 @@
+package com.cognify.repository;
+
+import com.cognify.entity.UserIdentity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface UserIdentityRepository extends JpaRepository<UserIdentity, Long> {
+
+    // Login resolves the tenant here first, so the user is then read from one partition only
+    Optional<UserIdentity> findByUsername(String username);
+
+    Boolean existsByUsername(String username);
+
+    Boolean existsByEmail(String email);
+
+    // Plain INSERT (save() would merge and SELECT first); a duplicate fails immediately
+    @Modifying
+    @Query(value = "INSERT INTO user_identities (user_id, tenant_id, username, email) "
+            + "VALUES (:userId, :tenantId, :username, :email)",
+            nativeQuery = true)
+    void insert(@Param("userId") Long userId,
+                @Param("tenantId") String tenantId,
+                @Param("username") String username,
+                @Param("email") String email);
+
+    @Modifying
+    @Query("UPDATE UserIdentity i SET i.username = :username, i.email = :email WHERE i.userId = :userId")
+    int updateIdentity(@Param("userId") Long userId,
+                       @Param("username") String username,
+                       @Param("email") String email);
+
+    @Modifying
+    @Query("DELETE FROM UserIdentity i WHERE i.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+}
@@ -8,15 +8,10 @@ import com.cognify.entity.User;
 import java.util.List;
 
 
-public interface UserRepository extends JpaRepository<User, Long>{
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
 
     Optional<User> findByUsername(String username);
     
     Optional<User> findByEmail(String email);
-    
-    Boolean existsByUsername(String username);
-    
-    Boolean existsByEmail(String email);
-
 
 }
@@ -0,0 +1,22 @@
+package com.cognify.repository;
+
+import com.cognify.dto.UserDto;
+import com.cognify.dto.UserField;
+import com.cognify.entity.User;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+public interface UserRepositoryCustom {
+
+    // Selects only the requested columns (plus id); pass null ids to read all users
+    List<UserDto> findProjected(Set<UserField> fields, Collection<Long> ids);
+
+    // Natural-id lookup, served from the second-level cache when the username is cached.
+    // Transactional so the unwrapped Session stays open outside a service transaction.
+    @Transactional(readOnly = true)
+    Optional<User> findByNaturalUsername(String username);
+}
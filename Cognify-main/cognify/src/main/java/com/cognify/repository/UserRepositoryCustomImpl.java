@@ -0,0 +1,65 @@
+package com.cognify.repository;
+
+import com.cognify.dto.UserDto;
+import com.cognify.dto.UserField;
+import com.cognify.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.Session;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<UserDto> findProjected(Set<UserField> fields, Collection<Long> ids) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<User> user = query.from(User.class);
+
+        // id is always selected so callers can re-order batch results
+        List<Selection<?>> selections = new ArrayList<>();
+        selections.add(user.get(UserField.ID.getName()).alias(UserField.ID.getName()));
+        for (UserField field : fields) {
+            if (field != UserField.ID) {
+                selections.add(user.get(field.getName()).alias(field.getName()));
+            }
+        }
+        query.multiselect(selections);
+
+        if (ids != null) {
+            query.where(user.get(UserField.ID.getName()).in(ids));
+        }
+
+        List<Tuple> rows = entityManager.createQuery(query).getResultList();
+        List<UserDto> users = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            UserDto dto = new UserDto();
+            UserField.ID.apply(dto, row.get(UserField.ID.getName()));
+            for (UserField field : fields) {
+                field.apply(dto, row.get(field.getName()));
+            }
+            users.add(dto);
+        }
+        return users;
+    }
+
+    @Override
+    public Optional<User> findByNaturalUsername(String username) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(username);
+    }
+}
@@ -0,0 +1,21 @@
+package com.cognify.service;
+
+import com.cognify.dto.SchoolStatsDto;
+import com.cognify.dto.UserDto;
+
+import java.util.List;
+
+public interface SchoolStatsService {
+
+    // Pass null as before for a created user and null as after for a deleted one.
+    // tenantId is the tenant of the user; UserDto does not carry it.
+    void recordTransition(String tenantId, UserDto before, UserDto after);
+
+    // Stats are limited to the caller's tenant; the root tenant sees every tenant
+
+    List<SchoolStatsDto> getAllSchoolStats();
+
+    SchoolStatsDto getSchoolStats(String schoolName);
+
+    void reconcile();
+}
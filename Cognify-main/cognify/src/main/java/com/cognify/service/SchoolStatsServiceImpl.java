@@ -0,0 +1,112 @@
+package com.cognify.service;
+
+import com.cognify.dto.SchoolStatsDto;
+import com.cognify.dto.UserDto;
+import com.cognify.entity.SchoolUserCounter;
+import com.cognify.entity.SchoolUserCounterId;
+import com.cognify.repository.SchoolUserCounterRepository;
+import com.cognify.tenant.TenantContext;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class SchoolStatsServiceImpl implements SchoolStatsService {
+
+    private static final String NO_SCHOOL = "";
+
+    private final SchoolUserCounterRepository schoolUserCounterRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    @Transactional(Transactional.TxType.MANDATORY)
+    public void recordTransition(String tenantId, UserDto before, UserDto after) {
+        SchoolUserCounterId from = before == null ? null : counterId(tenantId, before);
+        SchoolUserCounterId to = after == null ? null : counterId(tenantId, after);
+        if (Objects.equals(from, to)) {
+            return;
+        }
+        if (from != null) {
+            increment(from, -1);
+        }
+        if (to != null) {
+            increment(to, 1);
+        }
+    }
+
+    @Override
+    public List<SchoolStatsDto> getAllSchoolStats() {
+        Map<String, SchoolStatsDto> stats = new TreeMap<>();
+        List<SchoolUserCounter> counters = TenantContext.isRoot()
+                ? schoolUserCounterRepository.findAll()
+                : schoolUserCounterRepository.findByIdTenantId(TenantContext.getTenantId());
+        for (SchoolUserCounter counter : counters) {
+            addCounter(stats.computeIfAbsent(counter.getId().getSchoolName(), SchoolStatsDto::new), counter);
+        }
+        return new ArrayList<>(stats.values());
+    }
+
+    @Override
+    public SchoolStatsDto getSchoolStats(String schoolName) {
+        SchoolStatsDto stats = new SchoolStatsDto(schoolName);
+        List<SchoolUserCounter> counters = TenantContext.isRoot()
+                ? schoolUserCounterRepository.findByIdSchoolName(schoolName)
+                : schoolUserCounterRepository.findByIdTenantIdAndIdSchoolName(TenantContext.getTenantId(), schoolName);
+        counters.forEach(counter -> addCounter(stats, counter));
+        return stats;
+    }
+
+    // Rebuilds the counters from users to correct any drift, e.g. rows changed outside UserService.
+    // Each tenant is recounted in its own short transaction, so writes to other tenants never wait.
+    @Override
+    @Scheduled(cron = "${cognify.stats.reconcile-cron:0 0 3 * * *}")
+    public void reconcile() {
+        TenantContext.runAsRoot(this::rebuildCounters);
+    }
+
+    private void rebuildCounters() {
+        List<String> tenantIds = schoolUserCounterRepository.findTenantIds();
+        log.info("Reconciling school user counters for {} tenants", tenantIds.size());
+        for (String tenantId : tenantIds) {
+            transactionTemplate.executeWithoutResult(status -> {
+                // Counters with no matching users stay at zero; the rest are overwritten with the recount
+                schoolUserCounterRepository.resetTenant(tenantId);
+                schoolUserCounterRepository.recountTenant(tenantId);
+            });
+        }
+        log.info("Reconciled school user counters");
+    }
+
+    private void increment(SchoolUserCounterId id, long delta) {
+        schoolUserCounterRepository.increment(
+                id.getTenantId(), id.getSchoolName(), id.getRole().name(), id.getActive(), delta);
+    }
+
+    private static SchoolUserCounterId counterId(String tenantId, UserDto user) {
+        String schoolName = user.getSchoolName() == null ? NO_SCHOOL : user.getSchoolName();
+        boolean active = user.getIsActive() == null || user.getIsActive();
+        return new SchoolUserCounterId(tenantId, schoolName, user.getRole(), active);
+    }
+
+    private static void addCounter(SchoolStatsDto stats, SchoolUserCounter counter) {
+        long count = counter.getUserCount();
+        stats.setTotalUsers(stats.getTotalUsers() + count);
+        if (counter.getId().getActive()) {
+            stats.setActiveUsers(stats.getActiveUsers() + count);
+        } else {
+            stats.setInactiveUsers(stats.getInactiveUsers() + count);
+        }
+        stats.getUsersByRole().merge(counter.getId().getRole(), count, Long::sum);
+    }
+}
@@ -0,0 +1,12 @@
+package com.cognify.service;
+
+import com.cognify.dto.TenantDto;
+
+public interface TenantService {
+
+    // Tenant for a new user: the one whose join code is schoolCode, or a new tenant when
+    // schoolCode is null. Throws BadRequestException for an unknown code.
+    String resolveForRegistration(String schoolCode, String schoolName);
+
+    TenantDto getCurrentTenant();
+}
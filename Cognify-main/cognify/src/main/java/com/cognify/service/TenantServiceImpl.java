@@ -0,0 +1,58 @@
+package com.cognify.service;
+
+import com.cognify.dto.TenantDto;
+import com.cognify.entity.Tenant;
+import com.cognify.exception.BadRequestException;
+import com.cognify.exception.ResourceNotFoundException;
+import com.cognify.repository.TenantRepository;
+import com.cognify.tenant.TenantContext;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.HexFormat;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class TenantServiceImpl implements TenantService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final TenantRepository tenantRepository;
+
+    // MANDATORY: a new tenant must roll back together with the registration that created it
+    @Override
+    @Transactional(Transactional.TxType.MANDATORY)
+    public String resolveForRegistration(String schoolCode, String schoolName) {
+        if (schoolCode != null) {
+            return tenantRepository.findByJoinCode(schoolCode)
+                    .map(Tenant::getTenantId)
+                    .orElseThrow(() -> new BadRequestException("Unknown school code"));
+        }
+
+        // The name only makes the key readable; the random suffix keeps schools with the
+        // same name apart, so typing a school's name never joins it
+        String tenantId = TenantContext.tenantKeyFor(schoolName) + "-" + HexFormat.of().formatHex(randomBytes(4));
+        tenantRepository.insert(tenantId, schoolName, Base64.getUrlEncoder().withoutPadding().encodeToString(randomBytes(12)));
+        log.info("Created tenant: {}", tenantId);
+        return tenantId;
+    }
+
+    @Override
+    public TenantDto getCurrentTenant() {
+        String tenantId = TenantContext.getTenantId();
+        Tenant tenant = tenantRepository.findById(tenantId)
+                .orElseThrow(() -> new ResourceNotFoundException("Tenant not found: " + tenantId));
+        return new TenantDto(tenant.getTenantId(), tenant.getName(), tenant.getJoinCode());
+    }
+
+    private static byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        RANDOM.nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,95 @@
+package com.cognify.service;
+
+import com.cognify.dto.UserChangeEventDto;
+import com.cognify.entity.UserChangeEvent;
+import com.cognify.repository.UserChangeEventRepository;
+import com.cognify.service.sink.UserChangeSink;
+import com.cognify.tenant.TenantContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// Drains the user outbox in batches and hands them to the configured sink.
+// Each run first gives newly committed rows their feed position (feed_seq), then relays
+// sequenced rows in that order. If the sink throws, the transaction rolls back and the batch
+// is retried on the next run.
+// Published rows are purged once they are older than the retention period.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserChangeRelay {
+
+    private final UserChangeEventRepository userChangeEventRepository;
+    private final UserChangeSink userChangeSink;
+    private final TransactionTemplate transactionTemplate;
+
+    private static final int PURGE_BATCH_SIZE = 5000;
+    private static final int SEQUENCE_BATCH_SIZE = 5000;
+
+    // pg_advisory_xact_lock key shared by every relay instance
+    private static final long FEED_SEQUENCER_LOCK = "user_outbox_feed_seq".hashCode();
+
+    @Value("${cognify.outbox.relay.batch-size:100}")
+    private int batchSize;
+
+    @Value("${cognify.outbox.retention-days:7}")
+    private int retentionDays;
+
+    @Scheduled(fixedDelayString = "${cognify.outbox.relay.interval-ms:1000}")
+    public void relay() {
+        TenantContext.runAsRoot(() -> {
+            int sequenced;
+            do {
+                sequenced = transactionTemplate.execute(status -> sequenceBatch());
+            } while (sequenced == SEQUENCE_BATCH_SIZE);
+            transactionTemplate.executeWithoutResult(status -> relayBatch());
+        });
+    }
+
+    // Short transaction of its own: the lock is held only while numbering, never during publishing
+    private int sequenceBatch() {
+        userChangeEventRepository.lockFeedSequencer(FEED_SEQUENCER_LOCK);
+        return userChangeEventRepository.assignFeedSeq(SEQUENCE_BATCH_SIZE);
+    }
+
+    private void relayBatch() {
+        List<UserChangeEvent> events = userChangeEventRepository.lockUnpublished(batchSize);
+        if (events.isEmpty()) {
+            return;
+        }
+
+        List<UserChangeEventDto> batch = events.stream()
+                .map(UserChangeServiceImpl::toDto)
+                .collect(Collectors.toList());
+        userChangeSink.publish(batch);
+
+        List<Long> ids = events.stream().map(UserChangeEvent::getId).collect(Collectors.toList());
+        userChangeEventRepository.markPublished(ids, LocalDateTime.now());
+        log.info("Relayed {} user changes up to sequence: {}", ids.size(), events.get(events.size() - 1).getFeedSeq());
+    }
+
+    @Scheduled(cron = "${cognify.outbox.purge-cron:0 15 * * * *}")
+    public void purge() {
+        TenantContext.runAsRoot(this::purgeExpired);
+    }
+
+    private void purgeExpired() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        int total = 0;
+        int deleted;
+        do {
+            deleted = userChangeEventRepository.deletePublishedBefore(cutoff, PURGE_BATCH_SIZE);
+            total += deleted;
+        } while (deleted == PURGE_BATCH_SIZE);
+        if (total > 0) {
+            log.info("Purged {} user changes published before {}", total, cutoff);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.cognify.service;
+
+import com.cognify.dto.UserChangePage;
+import com.cognify.dto.UserDto;
+import com.cognify.entity.UserChangeType;
+
+public interface UserChangeService {
+
+    // tenantId is the tenant of the changed user; UserDto does not carry it
+    void recordChange(UserChangeType changeType, String tenantId, UserDto user);
+
+    // Returns changes with a sequence greater than since, limited to the caller's tenant.
+    // A change gets its sequence on the first UserChangeRelay run after it commits.
+    // Rows are kept for cognify.outbox.retention-days after they are published, so a consumer
+    // whose cursor falls further behind than that misses changes and must resync from GET /api/users.
+    UserChangePage getChangesSince(Long since, int size);
+}
@@ -0,0 +1,91 @@
+package com.cognify.service;
+
+import com.cognify.dto.UserChangeEventDto;
+import com.cognify.dto.UserChangePage;
+import com.cognify.dto.UserDto;
+import com.cognify.entity.UserChangeEvent;
+import com.cognify.entity.UserChangeType;
+import com.cognify.repository.UserChangeEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@Slf4j
+public class UserChangeServiceImpl implements UserChangeService {
+
+    private static final int MAX_PAGE_SIZE = 500;
+
+    private final UserChangeEventRepository userChangeEventRepository;
+
+    // Writer resolved once instead of looking up the UserDto serializer per change
+    private final ObjectWriter userWriter;
+
+    public UserChangeServiceImpl(UserChangeEventRepository userChangeEventRepository, ObjectMapper objectMapper) {
+        this.userChangeEventRepository = userChangeEventRepository;
+        this.userWriter = objectMapper.writerFor(UserDto.class);
+    }
+
+    // MANDATORY: the outbox row must commit or roll back together with the user mutation
+    @Override
+    @Transactional(Transactional.TxType.MANDATORY)
+    public void recordChange(UserChangeType changeType, String tenantId, UserDto user) {
+        UserChangeEvent event = new UserChangeEvent();
+        event.setTenantId(tenantId);
+        event.setUserId(user.getId());
+        event.setChangeType(changeType);
+        event.setPayload(toJson(user));
+        userChangeEventRepository.save(event);
+        log.debug("Recorded {} change for user ID: {}", changeType, user.getId());
+    }
+
+    // Pages on feed_seq, not id: ids are assigned at insert and can commit out of order, while
+    // feed_seq is only assigned after commit, in order, so a cursor never skips a change
+    @Override
+    public UserChangePage getChangesSince(Long since, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        long cursor = since == null ? 0L : since;
+
+        // Fetch one extra row to know whether another page exists; Hibernate restricts the
+        // query to the current tenant, and the root tenant reads every tenant's changes
+        List<UserChangeEvent> events = userChangeEventRepository
+                .findByFeedSeqGreaterThanOrderByFeedSeqAsc(cursor, PageRequest.of(0, pageSize + 1));
+        boolean hasMore = events.size() > pageSize;
+        if (hasMore) {
+            events = events.subList(0, pageSize);
+        }
+
+        List<UserChangeEventDto> changes = events.stream()
+                .map(UserChangeServiceImpl::toDto)
+                .collect(Collectors.toList());
+        Long nextSince = changes.isEmpty() ? cursor : changes.get(changes.size() - 1).getSequence();
+        return new UserChangePage(changes, nextSince, hasMore);
+    }
+
+    static UserChangeEventDto toDto(UserChangeEvent event) {
+        return new UserChangeEventDto(
+                event.getId(),
+                event.getFeedSeq(),
+                event.getTenantId(),
+                event.getUserId(),
+                event.getChangeType(),
+                event.getPayload(),
+                event.getCreatedAt()
+        );
+    }
+
+    private String toJson(UserDto user) {
+        try {
+            return userWriter.writeValueAsString(user);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize user change for user ID: " + user.getId(), e);
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.cognify.dto.UserDto;
 import com.cognify.entity.User;
 
 import java.util.List;
+import java.util.Set;
 
 public interface UserService {
     
@@ -12,8 +13,14 @@ public interface UserService {
     
     UserDto getUserById(Long id);
     
+    UserDto getUserById(Long id, Set<String> fields);
+    
     List<UserDto> getAllUsers();
     
+    List<UserDto> getAllUsers(Set<String> fields);
+    
+    List<UserDto> getUsersByIds(List<Long> ids, Set<String> fields);
+    
     UserDto updateUser(Long id, UserDto userDto);
     
     void deleteUser(Long id);
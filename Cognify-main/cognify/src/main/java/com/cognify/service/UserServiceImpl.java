@@ -2,15 +2,23 @@ package com.cognify.service;
 
 import com.cognify.dto.RegisterRequest;
 import com.cognify.dto.UserDto;
+import com.cognify.dto.UserField;
 import com.cognify.entity.User;
+import com.cognify.entity.UserChangeType;
+import com.cognify.entity.UserIdentity;
 import com.cognify.entity.UserRole;
+import com.cognify.exception.BadRequestException;
 import com.cognify.exception.ResourceNotFoundException;
+import com.cognify.repository.UserIdentityRepository;
 import com.cognify.repository.UserRepository;
+import com.cognify.service.cache.UserCacheInvalidator;
+import com.cognify.tenant.TenantContext;
 import com.cognify.service.UserService;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -18,7 +26,12 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,16 +39,22 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService, UserDetailsService {
     
+    private static final int MAX_BATCH_IDS = 500;
+    
     private final UserRepository userRepository;
+    private final UserIdentityRepository userIdentityRepository;
     private final ModelMapper modelMapper;
     private final PasswordEncoder passwordEncoder;
+    private final UserChangeService userChangeService;
+    private final SchoolStatsService schoolStatsService;
+    private final UserCacheInvalidator userCacheInvalidator;
+    private final TenantService tenantService;
     
     // Spring Security UserDetailsService implementation
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         log.info("Loading user by username: {}", username);
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
+        User user = loadByUsername(username);
         
         return new org.springframework.security.core.userdetails.User(
                 user.getUsername(),
@@ -49,14 +68,14 @@ public class UserServiceImpl implements UserService, UserDetailsService {
     public UserDto createUser(RegisterRequest request) {
         log.info("Creating a new user with username: {}", request.getUsername());
         
-        // Validate username doesn't exist
-        if (userRepository.existsByUsername(request.getUsername())) {
+        // Validate username doesn't exist (in any tenant)
+        if (userIdentityRepository.existsByUsername(request.getUsername())) {
             log.error("Username already exists: {}", request.getUsername());
             throw new RuntimeException("Username already exists");
         }
         
-        // Validate email doesn't exist
-        if (userRepository.existsByEmail(request.getEmail())) {
+        // Validate email doesn't exist (in any tenant)
+        if (userIdentityRepository.existsByEmail(request.getEmail())) {
             log.error("Email already exists: {}", request.getEmail());
             throw new RuntimeException("Email already exists");
         }
@@ -83,15 +102,31 @@ public class UserServiceImpl implements UserService, UserDetailsService {
             user.setPhone(request.getProfile().getPhone());
         }
         
+        // Tenant comes from a join code, never from the free-text schoolName, and is fixed at
+        // registration; a later schoolName change does not move the user
+        user.setTenantId(tenantService.resolveForRegistration(request.getSchoolCode(), user.getSchoolName()));
+        
         // Set active status
         user.setIsActive(true);
         
         // Save user
         user = userRepository.save(user);
+        
+        // The checks above are only a fast path; the unique indexes on user_identities
+        // reject a concurrent registration of the same username/email in another tenant
+        try {
+            userIdentityRepository.insert(user.getId(), user.getTenantId(), user.getUsername(), user.getEmail());
+        } catch (DataIntegrityViolationException e) {
+            log.error("Username or email already exists: {}", request.getUsername());
+            throw new RuntimeException("Username or email already exists");
+        }
         log.info("Created user with ID: {}", user.getId());
         
         // Return UserDto (without password)
-        return modelMapper.map(user, UserDto.class);
+        UserDto created = modelMapper.map(user, UserDto.class);
+        userChangeService.recordChange(UserChangeType.CREATED, user.getTenantId(), created);
+        schoolStatsService.recordTransition(user.getTenantId(), null, created);
+        return created;
     }
     
     @Override
@@ -102,6 +137,17 @@ public class UserServiceImpl implements UserService, UserDetailsService {
         return modelMapper.map(user, UserDto.class);
     }
     
+    @Override
+    public UserDto getUserById(Long id, Set<String> fields) {
+        log.info("Fetching fields {} of user with ID: {}", fields, id);
+        Set<UserField> selected = UserField.parse(fields);
+        List<UserDto> users = userRepository.findProjected(selected, List.of(id));
+        if (users.isEmpty()) {
+            throw new ResourceNotFoundException("User not found with ID: " + id);
+        }
+        return stripUnselectedId(users.get(0), selected);
+    }
+    
     @Override
     public List<UserDto> getAllUsers() {
         log.info("Fetching all users");
@@ -111,21 +157,71 @@ public class UserServiceImpl implements UserService, UserDetailsService {
                 .collect(Collectors.toList());
     }
     
+    @Override
+    public List<UserDto> getAllUsers(Set<String> fields) {
+        log.info("Fetching fields {} of all users", fields);
+        Set<UserField> selected = UserField.parse(fields);
+        return userRepository.findProjected(selected, null).stream()
+                .map(user -> stripUnselectedId(user, selected))
+                .collect(Collectors.toList());
+    }
+    
+    @Override
+    public List<UserDto> getUsersByIds(List<Long> ids, Set<String> fields) {
+        Set<Long> uniqueIds = new LinkedHashSet<>(ids);
+        if (uniqueIds.size() > MAX_BATCH_IDS) {
+            throw new BadRequestException("At most " + MAX_BATCH_IDS + " ids can be requested at once");
+        }
+        log.info("Fetching {} users by ID", uniqueIds.size());
+        Set<UserField> selected = UserField.parse(fields);
+        if (uniqueIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        
+        // Single IN query, then restore the order the ids were requested in; unknown ids are skipped
+        Map<Long, UserDto> usersById = userRepository.findProjected(selected, uniqueIds).stream()
+                .collect(Collectors.toMap(UserDto::getId, Function.identity()));
+        return uniqueIds.stream()
+                .map(usersById::get)
+                .filter(Objects::nonNull)
+                .map(user -> stripUnselectedId(user, selected))
+                .collect(Collectors.toList());
+    }
+    
     @Override
     @Transactional
     public UserDto updateUser(Long id, UserDto userDto) {
         log.info("Updating user with ID: {}", id);
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + id));
+        UserDto before = modelMapper.map(user, UserDto.class);
         
         // Map updated fields (excluding password and sensitive fields)
         modelMapper.map(userDto, user);
         user.setId(id); // ensure id remains same
         
         user = userRepository.save(user);
+        
+        if (!Objects.equals(user.getUsername(), before.getUsername())
+                || !Objects.equals(user.getEmail(), before.getEmail())) {
+            try {
+                userIdentityRepository.updateIdentity(id, user.getUsername(), user.getEmail());
+            } catch (DataIntegrityViolationException e) {
+                log.error("Username or email already exists: {}", user.getUsername());
+                throw new BadRequestException("Username or email already exists");
+            }
+        }
         log.info("Updated user with ID: {}", id);
         
-        return modelMapper.map(user, UserDto.class);
+        UserDto updated = modelMapper.map(user, UserDto.class);
+        userChangeService.recordChange(UserChangeType.UPDATED, user.getTenantId(), updated);
+        schoolStatsService.recordTransition(user.getTenantId(), before, updated);
+        // Natural-id entries only go stale on a rename
+        List<String> usernames = Objects.equals(before.getUsername(), user.getUsername())
+                ? List.of()
+                : List.of(before.getUsername(), user.getUsername());
+        userCacheInvalidator.invalidate(user.getTenantId(), id, usernames);
+        return updated;
     }
     
     @Override
@@ -134,7 +230,12 @@ public class UserServiceImpl implements UserService, UserDetailsService {
         log.info("Deleting user with ID: {}", id);
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + id));
+        UserDto deleted = modelMapper.map(user, UserDto.class);
         userRepository.delete(user);
+        userIdentityRepository.deleteByUserId(id);
+        userChangeService.recordChange(UserChangeType.DELETED, user.getTenantId(), deleted);
+        schoolStatsService.recordTransition(user.getTenantId(), deleted, null);
+        userCacheInvalidator.invalidate(user.getTenantId(), id, List.of(user.getUsername()));
         log.info("Deleted user with ID: {}", id);
     }
     
@@ -144,8 +245,14 @@ public class UserServiceImpl implements UserService, UserDetailsService {
         log.info("Activating user with ID: {}", id);
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + id));
+        UserDto before = modelMapper.map(user, UserDto.class);
         user.setIsActive(true);
         userRepository.save(user);
+        UserDto after = modelMapper.map(user, UserDto.class);
+        userChangeService.recordChange(UserChangeType.ACTIVATED, user.getTenantId(), after);
+        schoolStatsService.recordTransition(user.getTenantId(), before, after);
+        // Username is unchanged, so its natural-id entry still points at this user
+        userCacheInvalidator.invalidate(user.getTenantId(), id, List.of());
         log.info("Activated user with ID: {}", id);
     }
     
@@ -155,15 +262,38 @@ public class UserServiceImpl implements UserService, UserDetailsService {
         log.info("Deactivating user with ID: {}", id);
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + id));
+        UserDto before = modelMapper.map(user, UserDto.class);
         user.setIsActive(false);
         userRepository.save(user);
+        UserDto after = modelMapper.map(user, UserDto.class);
+        userChangeService.recordChange(UserChangeType.DEACTIVATED, user.getTenantId(), after);
+        schoolStatsService.recordTransition(user.getTenantId(), before, after);
+        // Username is unchanged, so its natural-id entry still points at this user
+        userCacheInvalidator.invalidate(user.getTenantId(), id, List.of());
         log.info("Deactivated user with ID: {}", id);
     }
     
+    // findProjected always selects id; drop it when the caller did not ask for it
+    private static UserDto stripUnselectedId(UserDto user, Set<UserField> selected) {
+        if (!selected.contains(UserField.ID)) {
+            user.setId(null);
+        }
+        return user;
+    }
+    
     @Override
     public User findByUsername(String username) {
         log.info("Finding user by username: {}", username);
-        return userRepository.findByUsername(username)
+        return loadByUsername(username);
+    }
+    
+    // Login runs as root; user_identities names the user's tenant, so the user is loaded (and
+    // cached) under that tenant instead of as a second root copy, and from its partition only
+    private User loadByUsername(String username) {
+        String tenantId = userIdentityRepository.findByUsername(username)
+                .map(UserIdentity::getTenantId)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
+        return TenantContext.callAs(tenantId, () -> userRepository.findByNaturalUsername(username))
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
     }
 }
\ No newline at end of file
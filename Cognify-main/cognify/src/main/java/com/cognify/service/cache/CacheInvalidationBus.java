@@ -0,0 +1,12 @@
+package com.cognify.service.cache;
+
+import java.util.function.Consumer;
+
+// Fan-out channel between nodes; back it with a real message bus in a multi-node deployment.
+// Select the implementation with cognify.cache.invalidation.bus (default: local).
+public interface CacheInvalidationBus {
+
+    void publish(UserCacheInvalidation message);
+
+    void subscribe(Consumer<UserCacheInvalidation> listener);
+}
@@ -0,0 +1,26 @@
+package com.cognify.service.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+// In-process stand-in for a message bus, for single-node runs and tests
+@Component
+@ConditionalOnProperty(name = "cognify.cache.invalidation.bus", havingValue = "local", matchIfMissing = true)
+public class LocalCacheInvalidationBus implements CacheInvalidationBus {
+
+    private final List<Consumer<UserCacheInvalidation>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(UserCacheInvalidation message) {
+        listeners.forEach(listener -> listener.accept(message));
+    }
+
+    @Override
+    public void subscribe(Consumer<UserCacheInvalidation> listener) {
+        listeners.add(listener);
+    }
+}
@@ -0,0 +1,54 @@
+package com.cognify.service.cache;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.configuration.TypesafeConfigurator;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+
+// GET /actuator/usercache: configured size and live statistics per second-level cache region.
+// Hit/miss/put counters are also published as hibernate.* metrics under /actuator/metrics.
+@Component
+@Endpoint(id = "usercache")
+public class UserCacheEndpoint {
+
+    private final Statistics statistics;
+    private final Config cacheConfig = ConfigFactory.load();
+
+    public UserCacheEndpoint(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @ReadOperation
+    public Map<String, Object> regions() {
+        Map<String, Object> regions = new LinkedHashMap<>();
+        for (String regionName : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics region = statistics.getCacheRegionStatistics(regionName);
+            Map<String, Object> details = new LinkedHashMap<>();
+            details.put("maximumSize", maximumSize(regionName));
+            details.put("elementCount", region.getElementCountInMemory());
+            details.put("hitCount", region.getHitCount());
+            details.put("missCount", region.getMissCount());
+            details.put("putCount", region.getPutCount());
+            regions.put(regionName, details);
+        }
+        return regions;
+    }
+
+    private Object maximumSize(String regionName) {
+        OptionalLong size = TypesafeConfigurator.<Object, Object>from(cacheConfig, regionName)
+                .map(CaffeineConfiguration::getMaximumSize)
+                .orElse(OptionalLong.empty());
+        return size.isPresent() ? size.getAsLong() : "default";
+    }
+}
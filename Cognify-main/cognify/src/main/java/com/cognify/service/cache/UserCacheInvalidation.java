@@ -0,0 +1,19 @@
+package com.cognify.service.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// Message sent to other nodes after a user row changed
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserCacheInvalidation {
+
+    private String originNodeId;
+    private String tenantId;
+    private Long userId;
+    private List<String> usernames;
+}
@@ -0,0 +1,56 @@
+package com.cognify.service.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.UUID;
+
+// Keeps the User second-level cache coherent within and across nodes: a changed user's entries
+// are evicted here after commit and on the other nodes, and the rest of the cache is left alone.
+@Slf4j
+@Component
+public class UserCacheInvalidator {
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final UserCacheRegions userCacheRegions;
+
+    public UserCacheInvalidator(CacheInvalidationBus cacheInvalidationBus, UserCacheRegions userCacheRegions) {
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.userCacheRegions = userCacheRegions;
+        cacheInvalidationBus.subscribe(this::onInvalidation);
+    }
+
+    // usernames: natural ids whose cached mapping may be stale (pass the old and new one on a rename)
+    public void invalidate(String tenantId, Long userId, List<String> usernames) {
+        UserCacheInvalidation message = new UserCacheInvalidation(nodeId, tenantId, userId, usernames);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Evicting before commit would let readers re-cache the old row
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(message);
+                    cacheInvalidationBus.publish(message);
+                }
+            });
+        } else {
+            evict(message);
+            cacheInvalidationBus.publish(message);
+        }
+    }
+
+    private void onInvalidation(UserCacheInvalidation message) {
+        if (nodeId.equals(message.getOriginNodeId())) {
+            return;
+        }
+        log.debug("Evicting cached user ID: {} changed on node {}", message.getUserId(), message.getOriginNodeId());
+        evict(message);
+    }
+
+    private void evict(UserCacheInvalidation message) {
+        userCacheRegions.evict(message.getTenantId(), message.getUserId(), message.getUsernames());
+    }
+}
@@ -0,0 +1,48 @@
+package com.cognify.service.cache;
+
+import com.cognify.entity.User;
+import com.cognify.tenant.TenantContext;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.access.NaturalIdDataAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+
+// Evicts single users from the second-level cache. Hibernate puts the session's tenant in every
+// cache key, so an entry is evicted under the user's tenant and under the root tenant.
+@Component
+public class UserCacheRegions {
+
+    private final SessionFactoryImplementor sessionFactory;
+    private final EntityPersister persister;
+
+    public UserCacheRegions(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.persister = sessionFactory.getMappingMetamodel().getEntityDescriptor(User.class);
+    }
+
+    // usernames: natural ids that may still map to userId, e.g. the old and new name after a rename
+    public void evict(String tenantId, Long userId, Collection<String> usernames) {
+        EntityDataAccess entities = persister.getCacheAccessStrategy();
+        NaturalIdDataAccess naturalIds = persister.getNaturalIdCacheAccessStrategy();
+        for (String tenant : List.of(tenantId, TenantContext.ROOT)) {
+            entities.evict(entities.generateCacheKey(userId, persister, sessionFactory, tenant));
+            if (usernames.isEmpty()) {
+                continue;
+            }
+            // Natural-id keys take the tenant from a session; this one never opens a connection
+            try (Session session = sessionFactory.withOptions().tenantIdentifier(tenant).openSession()) {
+                SharedSessionContractImplementor keySource = session.unwrap(SharedSessionContractImplementor.class);
+                for (String username : usernames) {
+                    naturalIds.evict(naturalIds.generateCacheKey(username, persister, keySource));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.cognify.service.sink;
+
+import com.cognify.dto.UserChangeEventDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// In-process delivery: listen with @EventListener on UserChangeEventDto
+@Component
+@ConditionalOnProperty(name = "cognify.outbox.sink", havingValue = "event", matchIfMissing = true)
+@RequiredArgsConstructor
+public class ApplicationEventUserChangeSink implements UserChangeSink {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public void publish(List<UserChangeEventDto> batch) {
+        batch.forEach(eventPublisher::publishEvent);
+    }
+}
@@ -0,0 +1,50 @@
+package com.cognify.service.sink;
+
+import com.cognify.dto.UserChangeEventDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+// Appends each change as one JSON line (NDJSON) to a local file
+@Component
+@ConditionalOnProperty(name = "cognify.outbox.sink", havingValue = "file")
+public class FileUserChangeSink implements UserChangeSink {
+
+    private final ObjectWriter changeWriter;
+    private final Path path;
+
+    public FileUserChangeSink(ObjectMapper objectMapper,
+                              @Value("${cognify.outbox.file.path:outbox/user-changes.ndjson}") Path path) {
+        this.changeWriter = objectMapper.writerFor(UserChangeEventDto.class);
+        this.path = path;
+    }
+
+    @Override
+    public synchronized void publish(List<UserChangeEventDto> batch) {
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (UserChangeEventDto change : batch) {
+                    writer.write(changeWriter.writeValueAsString(change));
+                    writer.newLine();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write user changes to " + path, e);
+        }
+    }
+}
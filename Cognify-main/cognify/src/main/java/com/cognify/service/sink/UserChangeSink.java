@@ -0,0 +1,12 @@
+package com.cognify.service.sink;
+
+import com.cognify.dto.UserChangeEventDto;
+
+import java.util.List;
+
+// Destination for relayed user changes; select one with cognify.outbox.sink=event|file|webhook
+public interface UserChangeSink {
+
+    // Must throw if the batch was not delivered so the relay retries it
+    void publish(List<UserChangeEventDto> batch);
+}
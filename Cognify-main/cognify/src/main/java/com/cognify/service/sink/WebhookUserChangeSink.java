@@ -0,0 +1,45 @@
+package com.cognify.service.sink;
+
+import com.cognify.dto.UserChangeEventDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.http.client.ClientHttpRequestFactoryBuilder;
+import org.springframework.boot.http.client.ClientHttpRequestFactorySettings;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+import java.util.List;
+
+// POSTs each batch as a JSON array; non-2xx responses and timeouts throw and the batch is retried.
+// The relay calls this while holding its transaction, row locks and a pooled connection, so a
+// webhook that hangs must time out rather than hold them.
+@Component
+@ConditionalOnProperty(name = "cognify.outbox.sink", havingValue = "webhook")
+public class WebhookUserChangeSink implements UserChangeSink {
+
+    private final RestClient restClient;
+
+    public WebhookUserChangeSink(RestClient.Builder restClientBuilder,
+                                 @Value("${cognify.outbox.webhook.url}") String url,
+                                 @Value("${cognify.outbox.webhook.connect-timeout:2s}") Duration connectTimeout,
+                                 @Value("${cognify.outbox.webhook.read-timeout:10s}") Duration readTimeout) {
+        ClientHttpRequestFactorySettings settings = ClientHttpRequestFactorySettings.defaults()
+                .withConnectTimeout(connectTimeout)
+                .withReadTimeout(readTimeout);
+        this.restClient = restClientBuilder
+                .baseUrl(url)
+                .requestFactory(ClientHttpRequestFactoryBuilder.detect().build(settings))
+                .build();
+    }
+
+    @Override
+    public void publish(List<UserChangeEventDto> batch) {
+        restClient.post()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(batch)
+                .retrieve()
+                .toBodilessEntity();
+    }
+}
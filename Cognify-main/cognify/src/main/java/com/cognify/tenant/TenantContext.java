@@ -0,0 +1,75 @@
+package com.cognify.tenant;
+
+import java.util.Locale;
+import java.util.function.Supplier;
+
+// Holds the tenant (school key) of the current request thread
+public final class TenantContext {
+
+    // Unscoped access, granted explicitly: /api/auth/** and jobs run through runAsRoot
+    public static final String ROOT = "*";
+
+    // Used when nothing is bound. Tenant keys are [a-z0-9-] only, so this matches no users
+    // and code that forgot to bind a tenant reads nothing instead of everything.
+    public static final String NONE = "__none__";
+
+    public static final String DEFAULT_TENANT = "default";
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private TenantContext() {
+    }
+
+    public static String getTenantId() {
+        String tenantId = CURRENT.get();
+        return tenantId == null ? NONE : tenantId;
+    }
+
+    public static boolean isRoot() {
+        return ROOT.equals(CURRENT.get());
+    }
+
+    public static void setTenantId(String tenantId) {
+        CURRENT.set(tenantId);
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    // For scheduled jobs; open the transaction inside the task so its session sees the root tenant
+    public static void runAsRoot(Runnable task) {
+        callAs(ROOT, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    // Runs task with tenantId bound, then restores the previous binding. Sessions opened
+    // inside the task use tenantId; a session that is already open keeps its own tenant.
+    public static <T> T callAs(String tenantId, Supplier<T> task) {
+        String previous = CURRENT.get();
+        CURRENT.set(tenantId);
+        try {
+            return task.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    // Must stay in sync with the backfill expression in V2__partition_users_by_tenant.sql
+    public static String tenantKeyFor(String schoolName) {
+        if (schoolName == null) {
+            return DEFAULT_TENANT;
+        }
+        String key = schoolName.trim()
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("[^a-z0-9]+", "-")
+                .replaceAll("^-+|-+$", "");
+        return key.isEmpty() ? DEFAULT_TENANT : key;
+    }
+}
@@ -0,0 +1,64 @@
+package com.cognify.tenant;
+
+import com.cognify.util.JwtUtil;
+import io.jsonwebtoken.JwtException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+// Binds the tenant before any EntityManager is opened:
+// - /api/auth/** runs as root, so login and registration see users across tenants
+// - a bearer token must be valid and carry a "tenant" claim, otherwise the request gets 401
+// - requests without a token stay unbound (TenantContext.NONE) and see no users
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class TenantFilter extends OncePerRequestFilter {
+
+    private static final String AUTH_PATH_PREFIX = "/api/auth/";
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtUtil jwtUtil;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try {
+            if (request.getRequestURI().startsWith(AUTH_PATH_PREFIX)) {
+                TenantContext.setTenantId(TenantContext.ROOT);
+            } else {
+                String header = request.getHeader("Authorization");
+                if (header != null && header.startsWith(BEARER_PREFIX)) {
+                    String tenantId = resolveTenant(header.substring(BEARER_PREFIX.length()));
+                    if (tenantId == null) {
+                        response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Token is invalid or has no tenant");
+                        return;
+                    }
+                    TenantContext.setTenantId(tenantId);
+                }
+            }
+            filterChain.doFilter(request, response);
+        } finally {
+            TenantContext.clear();
+        }
+    }
+
+    private String resolveTenant(String token) {
+        try {
+            return jwtUtil.getTenantFromToken(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("Rejecting invalid token: {}", e.getMessage());
+            return null;
+        }
+    }
+}
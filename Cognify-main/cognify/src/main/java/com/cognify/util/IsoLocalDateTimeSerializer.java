@@ -0,0 +1,63 @@
+package com.cognify.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+// Writes the same text as DateTimeFormatter.ISO_LOCAL_DATE_TIME (Jackson's default for
+// LocalDateTime) straight into a char buffer, skipping the formatter's per-call
+// StringBuilder and field lookups. Note: registered globally, it takes precedence over
+// @JsonFormat on LocalDateTime fields.
+public class IsoLocalDateTimeSerializer extends StdSerializer<LocalDateTime> {
+
+    public IsoLocalDateTimeSerializer() {
+        super(LocalDateTime.class);
+    }
+
+    @Override
+    public void serialize(LocalDateTime value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        int year = value.getYear();
+        if (year < 0 || year > 9999) {
+            gen.writeString(value.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+            return;
+        }
+
+        // yyyy-MM-ddTHH:mm:ss.nnnnnnnnn
+        char[] buf = new char[29];
+        writeDigits(buf, 0, year, 4);
+        buf[4] = '-';
+        writeDigits(buf, 5, value.getMonthValue(), 2);
+        buf[7] = '-';
+        writeDigits(buf, 8, value.getDayOfMonth(), 2);
+        buf[10] = 'T';
+        writeDigits(buf, 11, value.getHour(), 2);
+        buf[13] = ':';
+        writeDigits(buf, 14, value.getMinute(), 2);
+        buf[16] = ':';
+        writeDigits(buf, 17, value.getSecond(), 2);
+
+        int length = 19;
+        int nano = value.getNano();
+        if (nano != 0) {
+            // Fraction without trailing zeros, as the ISO formatter prints it
+            buf[19] = '.';
+            writeDigits(buf, 20, nano, 9);
+            length = 29;
+            while (buf[length - 1] == '0') {
+                length--;
+            }
+        }
+        gen.writeString(buf, 0, length);
+    }
+
+    private static void writeDigits(char[] buf, int offset, int value, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            buf[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+}
@@ -10,11 +10,14 @@ import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.Function;
 
 @Component
 public class JwtUtil {
     
+    public static final String TENANT_CLAIM = "tenant";
+    
     @Value("${spring.security.jwt.secret}")
     private String secret;
     
@@ -25,15 +28,17 @@ public class JwtUtil {
         return Keys.hmacShaKeyFor(secret.getBytes());
     }
     
-    // Generate token for user
-    public String generateToken(UserDetails userDetails) {
+    // Generate token scoped to the user's tenant (tokens without one are rejected)
+    public String generateToken(UserDetails userDetails, String tenantId) {
         Map<String, Object> claims = new HashMap<>();
+        claims.put(TENANT_CLAIM, Objects.requireNonNull(tenantId, "tenantId"));
         return createToken(claims, userDetails.getUsername());
     }
     
-    // Generate refresh token
-    public String generateRefreshToken(UserDetails userDetails) {
+    // Generate refresh token scoped to the user's tenant
+    public String generateRefreshToken(UserDetails userDetails, String tenantId) {
         Map<String, Object> claims = new HashMap<>();
+        claims.put(TENANT_CLAIM, Objects.requireNonNull(tenantId, "tenantId"));
         return createRefreshToken(claims, userDetails.getUsername());
     }
     
@@ -59,11 +64,21 @@ public class JwtUtil {
                 .compact();
     }
     
+    // Access token lifetime, as reported to clients in expires_in
+    public long getExpirationSeconds() {
+        return expiration / 1000;
+    }
+    
     // Extract username from token
     public String getUsernameFromToken(String token) {
         return getClaimFromToken(token, Claims::getSubject);
     }
     
+    // Extract tenant from token (null for tokens issued without one)
+    public String getTenantFromToken(String token) {
+        return getClaimFromToken(token, claims -> claims.get(TENANT_CLAIM, String.class));
+    }
+    
     // Extract expiration date from token
     public Date getExpirationDateFromToken(String token) {
         return getClaimFromToken(token, Claims::getExpiration);
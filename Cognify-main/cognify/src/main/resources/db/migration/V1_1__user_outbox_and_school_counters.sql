@@ -0,0 +1,21 @@
+-- Tables added on top of the ddl-auto schema. They are not part of V1, because existing
+-- databases are baselined at V1 and skip it; this script runs on those databases too.
+
+CREATE TABLE IF NOT EXISTS user_outbox (
+    id           bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id      bigint       NOT NULL,
+    change_type  varchar(255) NOT NULL CHECK (change_type IN ('CREATED', 'UPDATED', 'ACTIVATED', 'DEACTIVATED', 'DELETED')),
+    payload      text         NOT NULL,
+    created_at   timestamp(6),
+    published_at timestamp(6)
+);
+
+CREATE INDEX IF NOT EXISTS idx_user_outbox_published_at ON user_outbox (published_at, id);
+
+CREATE TABLE IF NOT EXISTS school_user_counters (
+    school_name varchar(255) NOT NULL,
+    role        varchar(255) NOT NULL CHECK (role IN ('TEACHER', 'ADMIN', 'PARENT', 'SPECIALIST')),
+    active      boolean      NOT NULL,
+    user_count  bigint       NOT NULL,
+    PRIMARY KEY (school_name, role, active)
+);
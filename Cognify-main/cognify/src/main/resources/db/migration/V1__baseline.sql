@@ -0,0 +1,16 @@
+-- The users table as previously generated by hibernate.ddl-auto=update.
+-- Databases that already have it are baselined at this version and skip this script.
+
+CREATE TABLE IF NOT EXISTS users (
+    id          bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username    varchar(50)  NOT NULL UNIQUE,
+    email       varchar(255) NOT NULL UNIQUE,
+    password    varchar(255) NOT NULL,
+    role        varchar(255) NOT NULL CHECK (role IN ('TEACHER', 'ADMIN', 'PARENT', 'SPECIALIST')),
+    first_name  varchar(255),
+    last_name   varchar(255),
+    school_name varchar(255),
+    phone       varchar(255),
+    created_at  timestamp(6),
+    is_active   boolean
+);
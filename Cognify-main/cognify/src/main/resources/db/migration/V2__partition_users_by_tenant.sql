@@ -0,0 +1,86 @@
+-- Partition users by tenant (school key).
+--
+-- Layout: users is LIST-partitioned on tenant_id. Tenants start out in users_shared, the
+-- DEFAULT partition, which is itself HASH-partitioned 16 ways so small tenants spread evenly.
+-- A tenant that grows large is moved to a dedicated LIST partition with
+-- users_create_tenant_partition('<tenant>'), so it no longer shares indexes with small tenants.
+--
+-- Postgres unique constraints on a partitioned table must include the partition key, so
+-- username/email are unique per tenant here. Global uniqueness is enforced by the unpartitioned
+-- user_identities table (V4__user_identities.sql), written in the same transaction as users.
+--
+-- The copy below rewrites the whole table in one transaction; on a large table run it in a
+-- maintenance window.
+
+-- 1. Tenant key, backfilled with the same rule as TenantContext.tenantKeyFor
+ALTER TABLE users ADD COLUMN tenant_id varchar(255);
+
+UPDATE users
+SET tenant_id = COALESCE(
+        NULLIF(trim(BOTH '-' FROM regexp_replace(lower(trim(school_name)), '[^a-z0-9]+', '-', 'g')), ''),
+        'default');
+
+ALTER TABLE users RENAME TO users_unpartitioned;
+
+-- 2. Partitioned table; ids come from a plain sequence shared by all partitions
+CREATE SEQUENCE users_seq;
+
+CREATE TABLE users (
+    id          bigint       NOT NULL DEFAULT nextval('users_seq'),
+    tenant_id   varchar(255) NOT NULL,
+    username    varchar(50)  NOT NULL,
+    email       varchar(255) NOT NULL,
+    password    varchar(255) NOT NULL,
+    role        varchar(255) NOT NULL CHECK (role IN ('TEACHER', 'ADMIN', 'PARENT', 'SPECIALIST')),
+    first_name  varchar(255),
+    last_name   varchar(255),
+    school_name varchar(255),
+    phone       varchar(255),
+    created_at  timestamp(6),
+    is_active   boolean,
+    PRIMARY KEY (tenant_id, id),
+    UNIQUE (tenant_id, username),
+    UNIQUE (tenant_id, email)
+) PARTITION BY LIST (tenant_id);
+
+ALTER SEQUENCE users_seq OWNED BY users.id;
+
+-- Cross-tenant lookups (login, findById from the root tenant) probe these in every partition
+CREATE INDEX idx_users_username ON users (username);
+CREATE INDEX idx_users_email ON users (email);
+CREATE INDEX idx_users_id ON users (id);
+
+CREATE TABLE users_shared PARTITION OF users DEFAULT PARTITION BY HASH (tenant_id);
+
+DO $$
+BEGIN
+    FOR i IN 0..15 LOOP
+        EXECUTE format('CREATE TABLE users_shared_%s PARTITION OF users_shared FOR VALUES WITH (MODULUS 16, REMAINDER %s)', i, i);
+    END LOOP;
+END $$;
+
+-- 3. Copy rows and continue ids after the highest existing one
+INSERT INTO users (id, tenant_id, username, email, password, role, first_name, last_name,
+                   school_name, phone, created_at, is_active)
+SELECT id, tenant_id, username, email, password, role, first_name, last_name,
+       school_name, phone, created_at, is_active
+FROM users_unpartitioned;
+
+SELECT setval('users_seq', COALESCE((SELECT max(id) FROM users), 0) + 1, false);
+
+DROP TABLE users_unpartitioned;
+
+-- 4. Moves a tenant out of users_shared into its own partition.
+-- Detaching the default partition blocks writes to users for the duration of the move.
+CREATE OR REPLACE FUNCTION users_create_tenant_partition(p_tenant varchar) RETURNS text AS $$
+DECLARE
+    partition_name text := 'users_t_' || substr(md5(p_tenant), 1, 16);
+BEGIN
+    ALTER TABLE users DETACH PARTITION users_shared;
+    EXECUTE format('CREATE TABLE %I PARTITION OF users FOR VALUES IN (%L)', partition_name, p_tenant);
+    EXECUTE format('INSERT INTO %I SELECT * FROM users_shared WHERE tenant_id = %L', partition_name, p_tenant);
+    DELETE FROM users_shared WHERE tenant_id = p_tenant;
+    ALTER TABLE users ATTACH PARTITION users_shared DEFAULT;
+    RETURN partition_name;
+END;
+$$ LANGUAGE plpgsql;
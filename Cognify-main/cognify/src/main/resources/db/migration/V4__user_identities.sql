@@ -0,0 +1,15 @@
+-- Global username/email uniqueness. Unique constraints on the partitioned users table must
+-- include tenant_id, so they only hold per tenant; this unpartitioned table restores the
+-- cross-tenant guarantee. UserServiceImpl writes it in the same transaction as users.
+
+CREATE TABLE user_identities (
+    user_id   bigint       PRIMARY KEY,
+    tenant_id varchar(255) NOT NULL,
+    username  varchar(50)  NOT NULL UNIQUE,
+    email     varchar(255) NOT NULL UNIQUE
+);
+
+-- Fails if duplicates slipped in across tenants since V2; resolve them before re-running
+INSERT INTO user_identities (user_id, tenant_id, username, email)
+SELECT id, tenant_id, username, email
+FROM users;
@@ -0,0 +1,34 @@
+-- Scope the change feed and the school counters to a tenant, so a school only sees its own
+-- users through /api/users/changes and /api/stats/schools.
+
+-- 1. Outbox rows take the tenant of their user; rows of deleted users fall back to the
+-- schoolName in the snapshot, with the same rule as TenantContext.tenantKeyFor
+ALTER TABLE user_outbox ADD COLUMN tenant_id varchar(255);
+
+UPDATE user_outbox o
+SET tenant_id = u.tenant_id
+FROM users u
+WHERE u.id = o.user_id;
+
+UPDATE user_outbox
+SET tenant_id = COALESCE(
+        NULLIF(trim(BOTH '-' FROM regexp_replace(lower(trim(payload::jsonb ->> 'schoolName')), '[^a-z0-9]+', '-', 'g')), ''),
+        'default')
+WHERE tenant_id IS NULL;
+
+ALTER TABLE user_outbox ALTER COLUMN tenant_id SET NOT NULL;
+
+CREATE INDEX idx_user_outbox_tenant_id ON user_outbox (tenant_id, id);
+
+-- 2. Counters are keyed by tenant as well; two schools may share a display name.
+-- The old rows carry no tenant, so the table is rebuilt by the next reconcile run.
+DROP TABLE school_user_counters;
+
+CREATE TABLE school_user_counters (
+    tenant_id   varchar(255) NOT NULL,
+    school_name varchar(255) NOT NULL,
+    role        varchar(255) NOT NULL CHECK (role IN ('TEACHER', 'ADMIN', 'PARENT', 'SPECIALIST')),
+    active      boolean      NOT NULL,
+    user_count  bigint       NOT NULL,
+    PRIMARY KEY (tenant_id, school_name, role, active)
+);
@@ -0,0 +1,8 @@
+-- Fill the counters from the existing users, so stats are right before the first reconcile
+-- run and decrements for existing users never take a counter below zero.
+INSERT INTO school_user_counters (tenant_id, school_name, role, active, user_count)
+SELECT tenant_id, COALESCE(school_name, ''), role, COALESCE(is_active, true), count(*)
+FROM users
+GROUP BY tenant_id, COALESCE(school_name, ''), role, COALESCE(is_active, true)
+ON CONFLICT (tenant_id, school_name, role, active)
+DO UPDATE SET user_count = EXCLUDED.user_count;
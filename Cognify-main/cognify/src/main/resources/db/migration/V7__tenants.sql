@@ -0,0 +1,16 @@
+-- Registry of tenants (schools). Registration no longer derives the tenant from the free-text
+-- schoolName: a user joins an existing tenant with its join code, or registering without a
+-- code creates a new tenant of its own.
+
+CREATE TABLE tenants (
+    tenant_id  varchar(255) PRIMARY KEY,
+    name       varchar(255),
+    join_code  varchar(64)  NOT NULL UNIQUE,
+    created_at timestamp(6)
+);
+
+-- Existing tenants get a random join code; give it to the school's administrators
+INSERT INTO tenants (tenant_id, name, join_code, created_at)
+SELECT tenant_id, max(school_name), substr(md5(random()::text || tenant_id), 1, 16), now()
+FROM users
+GROUP BY tenant_id;
@@ -0,0 +1,25 @@
+-- Change feed position. Outbox ids are assigned at insert, so a slow transaction can commit a
+-- lower id after a consumer's cursor moved past it. feed_seq is assigned by UserChangeRelay only
+-- to committed rows, one relay at a time, so it becomes visible in increasing order and
+-- /api/users/changes pages on it instead of id.
+
+CREATE SEQUENCE user_outbox_feed_seq;
+
+ALTER TABLE user_outbox ADD COLUMN feed_seq bigint UNIQUE;
+
+-- Every existing row is committed; number them in id order
+UPDATE user_outbox o
+SET feed_seq = s.seq
+FROM (SELECT id, row_number() OVER (ORDER BY id) AS seq FROM user_outbox) s
+WHERE o.id = s.id;
+
+SELECT setval('user_outbox_feed_seq', COALESCE((SELECT max(feed_seq) FROM user_outbox), 0) + 1, false);
+
+-- Rows still waiting for a position
+CREATE INDEX idx_user_outbox_unsequenced ON user_outbox (id) WHERE feed_seq IS NULL;
+
+-- The relay drains in feed order; the feed of one tenant pages on feed_seq
+DROP INDEX idx_user_outbox_published_at;
+CREATE INDEX idx_user_outbox_published_at ON user_outbox (published_at, feed_seq);
+DROP INDEX idx_user_outbox_tenant_id;
+CREATE INDEX idx_user_outbox_tenant_feed_seq ON user_outbox (tenant_id, feed_seq);
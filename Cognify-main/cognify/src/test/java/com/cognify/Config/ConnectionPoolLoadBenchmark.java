@@ -0,0 +1,233 @@
+package com.cognify.Config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Load test for the pool size and PgJDBC prepareThreshold in application.properties. Many threads
+// run a mixed user workload against Postgres: 50% findById, 30% findByUsername, and 20%
+// deactivate plus an outbox insert. It reports throughput, latency and the time spent waiting
+// for a pool connection. It compares the derived pool size with larger pools, and the driver's
+// default prepareThreshold of 5 with 3 and 0 (never server-prepare).
+// Needs Docker. Not picked up by the default surefire includes; run with
+//   mvn test -Dtest=ConnectionPoolLoadBenchmark -Dsurefire.failIfNoSpecifiedTests=false
+// Options: -Dbench.threads (default 64), -Dbench.seconds per run (20), -Dbench.users (100000).
+// Numbers depend on the machine, so only compare rows from the same run. Record the table next to
+// any setting it is used to change.
+class ConnectionPoolLoadBenchmark {
+
+    private static final int THREADS = Integer.getInteger("bench.threads", 64);
+    private static final int SECONDS = Integer.getInteger("bench.seconds", 20);
+    private static final int USERS = Integer.getInteger("bench.users", 100_000);
+    private static final int WARMUP_SECONDS = 5;
+    private static final int TENANTS = 50;
+
+    private static final String USER_COLUMNS = "id, tenant_id, username, email, password, role, first_name, "
+            + "last_name, school_name, phone, created_at, is_active";
+
+    @Test
+    void comparePoolSizesAndPrepareThresholds() throws Exception {
+        try (PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine")) {
+            postgres.start();
+            Flyway.configure()
+                    .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+                    .load()
+                    .migrate();
+            seed(postgres);
+
+            // The container shares this host's cores, so this is what PersistenceTuningConfig derives
+            int derived = Math.min(Runtime.getRuntime().availableProcessors() * 2 + 1, 50);
+            System.out.printf("%d threads, %d users, %ds per run%n", THREADS, USERS, SECONDS);
+            System.out.printf("%-6s %-16s %10s %8s %8s %14s%n",
+                    "pool", "prepareThreshold", "ops/s", "p50 ms", "p99 ms", "acquire p99 ms");
+            for (int poolSize : new int[]{derived, 10, 32, THREADS}) {
+                for (int prepareThreshold : new int[]{5, 3, 0}) {
+                    Result result = run(postgres, poolSize, prepareThreshold);
+                    System.out.printf("%-6d %-16d %10.0f %8.2f %8.2f %14.2f%n",
+                            poolSize, prepareThreshold, result.opsPerSecond(),
+                            result.p50Millis(), result.p99Millis(), result.acquireP99Millis());
+                    assertTrue(result.operations() > 0);
+                }
+            }
+        }
+    }
+
+    private static void seed(PostgreSQLContainer<?> postgres) throws SQLException {
+        try (Connection connection = postgres.createConnection("");
+             Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO users (" + USER_COLUMNS + ") "
+                    + "SELECT g, 'school-' || (g % " + TENANTS + "), 'user' || g, 'user' || g || '@example.com', "
+                    + "'password', 'TEACHER', 'First', 'Last', 'School ' || (g % " + TENANTS + "), NULL, now(), true "
+                    + "FROM generate_series(1, " + USERS + ") g");
+            statement.execute("ANALYZE users");
+        }
+    }
+
+    private static Result run(PostgreSQLContainer<?> postgres, int poolSize, int prepareThreshold) throws Exception {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(postgres.getJdbcUrl());
+        config.setUsername(postgres.getUsername());
+        config.setPassword(postgres.getPassword());
+        config.setMaximumPoolSize(poolSize);
+        config.setMinimumIdle(poolSize);
+        config.setConnectionTimeout(5000);
+        config.addDataSourceProperty("prepareThreshold", prepareThreshold);
+        try (HikariDataSource dataSource = new HikariDataSource(config)) {
+            drive(dataSource, WARMUP_SECONDS);
+            return drive(dataSource, SECONDS);
+        }
+    }
+
+    private static Result drive(DataSource dataSource, int seconds) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+            List<Future<Samples>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> work(dataSource, deadline)));
+            }
+            Samples samples = new Samples();
+            for (Future<Samples> future : futures) {
+                samples.addAll(future.get());
+            }
+            return samples.summarize(seconds);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static Samples work(DataSource dataSource, long deadline) throws SQLException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Samples samples = new Samples();
+        while (System.nanoTime() < deadline) {
+            long id = random.nextLong(1, USERS + 1);
+            String tenantId = "school-" + (id % TENANTS);
+            int kind = random.nextInt(10);
+            long start = System.nanoTime();
+            try (Connection connection = dataSource.getConnection()) {
+                long acquired = System.nanoTime();
+                if (kind < 5) {
+                    findById(connection, id, tenantId);
+                } else if (kind < 8) {
+                    findByUsername(connection, "user" + id);
+                } else {
+                    deactivate(connection, id, tenantId);
+                }
+                samples.add(acquired - start, System.nanoTime() - start);
+            }
+        }
+        return samples;
+    }
+
+    // Same shape as the SQL Hibernate issues for UserRepository under a tenant
+    private static void findById(Connection connection, long id, String tenantId) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT " + USER_COLUMNS + " FROM users WHERE id = ? AND tenant_id = ?")) {
+            statement.setLong(1, id);
+            statement.setString(2, tenantId);
+            consume(statement);
+        }
+    }
+
+    private static void findByUsername(Connection connection, String username) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT " + USER_COLUMNS + " FROM users WHERE username = ?")) {
+            statement.setString(1, username);
+            consume(statement);
+        }
+    }
+
+    private static void deactivate(Connection connection, long id, String tenantId) throws SQLException {
+        connection.setAutoCommit(false);
+        try (PreparedStatement update = connection.prepareStatement(
+                "UPDATE users SET is_active = false WHERE id = ? AND tenant_id = ?");
+             PreparedStatement outbox = connection.prepareStatement(
+                     "INSERT INTO user_outbox (tenant_id, user_id, change_type, payload, created_at) "
+                             + "VALUES (?, ?, 'DEACTIVATED', '{}', now())")) {
+            update.setLong(1, id);
+            update.setString(2, tenantId);
+            update.executeUpdate();
+            outbox.setString(1, tenantId);
+            outbox.setLong(2, id);
+            outbox.executeUpdate();
+            connection.commit();
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+
+    private static void consume(PreparedStatement statement) throws SQLException {
+        try (ResultSet rows = statement.executeQuery()) {
+            while (rows.next()) {
+                rows.getString("username");
+            }
+        }
+    }
+
+    private record Result(long operations, double opsPerSecond, double p50Millis, double p99Millis,
+                          double acquireP99Millis) {
+    }
+
+    // Per-thread latency samples in nanoseconds, merged once the run is over
+    private static final class Samples {
+
+        private long[] acquireNanos = new long[1 << 16];
+        private long[] latencyNanos = new long[1 << 16];
+        private int size;
+
+        void add(long acquire, long latency) {
+            if (size == latencyNanos.length) {
+                acquireNanos = Arrays.copyOf(acquireNanos, size * 2);
+                latencyNanos = Arrays.copyOf(latencyNanos, size * 2);
+            }
+            acquireNanos[size] = acquire;
+            latencyNanos[size] = latency;
+            size++;
+        }
+
+        void addAll(Samples other) {
+            for (int i = 0; i < other.size; i++) {
+                add(other.acquireNanos[i], other.latencyNanos[i]);
+            }
+        }
+
+        Result summarize(int seconds) {
+            long[] acquire = Arrays.copyOf(acquireNanos, size);
+            long[] latency = Arrays.copyOf(latencyNanos, size);
+            Arrays.sort(acquire);
+            Arrays.sort(latency);
+            return new Result(size, (double) size / seconds,
+                    millis(latency, 0.50), millis(latency, 0.99), millis(acquire, 0.99));
+        }
+
+        private static double millis(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = Math.min(sorted.length - 1, (int) Math.ceil(percentile * sorted.length) - 1);
+            return sorted[Math.max(index, 0)] / 1_000_000.0;
+        }
+    }
+}
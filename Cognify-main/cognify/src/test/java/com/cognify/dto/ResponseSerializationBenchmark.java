@@ -0,0 +1,107 @@
+package com.cognify.dto;
+
+import com.cognify.Config.JacksonConfig;
+import com.cognify.entity.UserRole;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Compares default Jackson with the JacksonConfig setup: time and bytes allocated per response.
+// Not picked up by the default surefire includes; run with
+//   mvn test -Dtest=ResponseSerializationBenchmark -Dsurefire.failIfNoSpecifiedTests=false
+class ResponseSerializationBenchmark {
+
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 50_000;
+
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Test
+    void compareSerializers() throws Exception {
+        // Spring Boot disables WRITE_DATES_AS_TIMESTAMPS; mirror that in both setups
+        ObjectMapper defaultMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        JacksonConfig config = new JacksonConfig();
+        Jackson2ObjectMapperBuilder tunedBuilder = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .modulesToInstall(config.blackbirdModule());
+        config.localDateTimeSerializerCustomizer().customize(tunedBuilder);
+        ObjectMapper tunedMapper = tunedBuilder.build();
+
+        UserDto user = sampleUser(1L);
+        List<UserDto> users = new ArrayList<>();
+        for (long id = 1; id <= 200; id++) {
+            users.add(sampleUser(id));
+        }
+
+        // Both setups must produce the same JSON
+        assertEquals(defaultMapper.writeValueAsString(users), tunedMapper.writeValueAsString(users));
+
+        run("login map (default)", defaultMapper.writer(), loginMap());
+        run("login record (tuned)", tunedMapper.writerFor(LoginResponse.class), loginRecord());
+        run("ApiResponse<UserDto> (default)", defaultMapper.writer(), new ApiResponse<>(true, "ok", user));
+        run("ApiResponse<UserDto> (tuned)", tunedMapper.writerFor(ApiResponse.class), new ApiResponse<>(true, "ok", user));
+        run("200 users (default)", defaultMapper.writer(), users);
+        run("200 users (tuned)", tunedMapper.writerFor(tunedMapper.getTypeFactory()
+                .constructCollectionType(List.class, UserDto.class)), users);
+    }
+
+    private void run(String name, ObjectWriter writer, Object value) throws Exception {
+        int iterations = value instanceof List ? ITERATIONS / 100 : ITERATIONS;
+        for (int i = 0; i < WARMUP / (value instanceof List ? 100 : 1); i++) {
+            writer.writeValueAsBytes(value);
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long bytesBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        int size = 0;
+        for (int i = 0; i < iterations; i++) {
+            size = writer.writeValueAsBytes(value).length;
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - bytesBefore;
+
+        System.out.printf("%-32s %8d ns/op %10d B/op %8d B payload%n",
+                name, elapsed / iterations, allocated / iterations, size);
+    }
+
+    private static UserDto sampleUser(Long id) {
+        return new UserDto(id, "user" + id, "user" + id + "@school.test", UserRole.TEACHER,
+                "First", "Last", "Springfield Elementary", "555-0100",
+                LocalDateTime.of(2024, 9, 1, 8, 30, 15, 123_000_000), true);
+    }
+
+    private static Map<String, Object> loginMap() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("access_token", "header.payload.signature");
+        response.put("refresh_token", "header.payload.signature");
+        response.put("expires_in", 3600);
+        Map<String, Object> userInfo = new HashMap<>();
+        userInfo.put("id", 1L);
+        userInfo.put("username", "user1");
+        userInfo.put("role", "teacher");
+        response.put("user", userInfo);
+        return response;
+    }
+
+    private static LoginResponse loginRecord() {
+        return new LoginResponse(true, "header.payload.signature", "header.payload.signature", 3600,
+                new LoginResponse.LoginUser(1L, "user1", "teacher"));
+    }
+}
@@ -0,0 +1,150 @@
+package com.cognify.service;
+
+import com.cognify.dto.SchoolStatsDto;
+import com.cognify.dto.UserDto;
+import com.cognify.entity.SchoolUserCounter;
+import com.cognify.entity.SchoolUserCounterId;
+import com.cognify.entity.UserRole;
+import com.cognify.repository.SchoolUserCounterRepository;
+import com.cognify.tenant.TenantContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+class SchoolStatsServiceImplTest {
+
+    private static final String TENANT = "springfield-high-0a1b2c3d";
+
+    private SchoolUserCounterRepository repository;
+    private SchoolStatsServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(SchoolUserCounterRepository.class);
+        service = new SchoolStatsServiceImpl(repository, mock(TransactionTemplate.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+    }
+
+    @Test
+    void createOnlyIncrements() {
+        service.recordTransition(TENANT, null, user("Springfield High", UserRole.TEACHER, true));
+
+        verify(repository).increment(TENANT, "Springfield High", "TEACHER", true, 1);
+        verifyNoMoreInteractions(repository);
+    }
+
+    @Test
+    void deleteOnlyDecrements() {
+        service.recordTransition(TENANT, user("Springfield High", UserRole.PARENT, false), null);
+
+        verify(repository).increment(TENANT, "Springfield High", "PARENT", false, -1);
+        verifyNoMoreInteractions(repository);
+    }
+
+    @Test
+    void unchangedKeyIsNoOp() {
+        UserDto before = user("Springfield High", UserRole.TEACHER, true);
+        UserDto after = user("Springfield High", UserRole.TEACHER, true);
+        after.setFirstName("Edna");
+
+        service.recordTransition(TENANT, before, after);
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void roleChangeMovesOneCount() {
+        service.recordTransition(TENANT,
+                user("Springfield High", UserRole.TEACHER, true),
+                user("Springfield High", UserRole.ADMIN, true));
+
+        verify(repository).increment(TENANT, "Springfield High", "TEACHER", true, -1);
+        verify(repository).increment(TENANT, "Springfield High", "ADMIN", true, 1);
+        verifyNoMoreInteractions(repository);
+    }
+
+    @Test
+    void deactivationMovesOneCount() {
+        service.recordTransition(TENANT,
+                user("Springfield High", UserRole.TEACHER, true),
+                user("Springfield High", UserRole.TEACHER, false));
+
+        verify(repository).increment(TENANT, "Springfield High", "TEACHER", true, -1);
+        verify(repository).increment(TENANT, "Springfield High", "TEACHER", false, 1);
+        verifyNoMoreInteractions(repository);
+    }
+
+    @Test
+    void missingSchoolAndActiveFlagUseTheCounterDefaults() {
+        service.recordTransition(TENANT, null, user(null, UserRole.SPECIALIST, null));
+
+        verify(repository).increment(TENANT, "", "SPECIALIST", true, 1);
+    }
+
+    @Test
+    void schoolStatsAddUpTheCallersCounters() {
+        TenantContext.setTenantId(TENANT);
+        when(repository.findByIdTenantIdAndIdSchoolName(TENANT, "Springfield High")).thenReturn(List.of(
+                counter("Springfield High", UserRole.TEACHER, true, 3),
+                counter("Springfield High", UserRole.TEACHER, false, 1),
+                counter("Springfield High", UserRole.ADMIN, true, 2)));
+
+        SchoolStatsDto stats = service.getSchoolStats("Springfield High");
+
+        assertEquals(6, stats.getTotalUsers());
+        assertEquals(5, stats.getActiveUsers());
+        assertEquals(1, stats.getInactiveUsers());
+        assertEquals(Map.of(UserRole.TEACHER, 4L, UserRole.ADMIN, 2L), stats.getUsersByRole());
+    }
+
+    @Test
+    void allSchoolStatsAreLimitedToTheCallersTenant() {
+        TenantContext.setTenantId(TENANT);
+        when(repository.findByIdTenantId(TENANT)).thenReturn(List.of(
+                counter("Springfield High", UserRole.TEACHER, true, 3),
+                counter("Annex", UserRole.PARENT, true, 2)));
+
+        List<SchoolStatsDto> stats = service.getAllSchoolStats();
+
+        // Sorted by school name
+        assertEquals(List.of("Annex", "Springfield High"), stats.stream().map(SchoolStatsDto::getSchoolName).toList());
+        assertEquals(2, stats.get(0).getTotalUsers());
+        assertEquals(3, stats.get(1).getTotalUsers());
+    }
+
+    @Test
+    void rootSeesEveryTenant() {
+        TenantContext.setTenantId(TenantContext.ROOT);
+        when(repository.findAll()).thenReturn(List.of(counter("Springfield High", UserRole.TEACHER, true, 3)));
+
+        assertEquals(1, service.getAllSchoolStats().size());
+        verify(repository).findAll();
+    }
+
+    private static UserDto user(String schoolName, UserRole role, Boolean active) {
+        UserDto user = new UserDto();
+        user.setSchoolName(schoolName);
+        user.setRole(role);
+        user.setIsActive(active);
+        return user;
+    }
+
+    private static SchoolUserCounter counter(String schoolName, UserRole role, boolean active, long count) {
+        return new SchoolUserCounter(new SchoolUserCounterId(TENANT, schoolName, role, active), count);
+    }
+}
@@ -0,0 +1,71 @@
+package com.cognify.service;
+
+import com.cognify.entity.Tenant;
+import com.cognify.exception.BadRequestException;
+import com.cognify.repository.TenantRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TenantServiceImplTest {
+
+    private TenantRepository repository;
+    private TenantServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(TenantRepository.class);
+        service = new TenantServiceImpl(repository);
+    }
+
+    @Test
+    void joinCodeResolvesToItsTenant() {
+        when(repository.findByJoinCode("code-123"))
+                .thenReturn(Optional.of(new Tenant("springfield-high-0a1b2c3d", "Springfield High", "code-123", LocalDateTime.now())));
+
+        assertEquals("springfield-high-0a1b2c3d", service.resolveForRegistration("code-123", "Anything"));
+        verify(repository, never()).insert(anyString(), any(), anyString());
+    }
+
+    @Test
+    void unknownJoinCodeIsRejected() {
+        when(repository.findByJoinCode("nope")).thenReturn(Optional.empty());
+
+        assertThrows(BadRequestException.class, () -> service.resolveForRegistration("nope", "Springfield High"));
+        verify(repository, never()).insert(anyString(), any(), anyString());
+    }
+
+    @Test
+    void sameSchoolNameWithoutCodeCreatesSeparateTenants() {
+        String first = service.resolveForRegistration(null, "Springfield High");
+        String second = service.resolveForRegistration(null, "Springfield High");
+
+        assertTrue(first.startsWith("springfield-high-"));
+        assertTrue(second.startsWith("springfield-high-"));
+        assertNotEquals(first, second);
+
+        ArgumentCaptor<String> joinCodes = ArgumentCaptor.forClass(String.class);
+        verify(repository, times(2)).insert(anyString(), any(), joinCodes.capture());
+        assertNotEquals(joinCodes.getAllValues().get(0), joinCodes.getAllValues().get(1));
+    }
+
+    @Test
+    void noSchoolNameStillGetsOwnTenant() {
+        assertTrue(service.resolveForRegistration(null, null).startsWith("default-"));
+    }
+}
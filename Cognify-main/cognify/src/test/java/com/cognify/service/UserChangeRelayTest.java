@@ -0,0 +1,82 @@
+package com.cognify.service;
+
+import com.cognify.dto.UserChangeEventDto;
+import com.cognify.entity.UserChangeEvent;
+import com.cognify.entity.UserChangeType;
+import com.cognify.repository.UserChangeEventRepository;
+import com.cognify.service.sink.UserChangeSink;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserChangeRelayTest {
+
+    private UserChangeEventRepository repository;
+    private UserChangeSink sink;
+    private UserChangeRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(UserChangeEventRepository.class);
+        sink = mock(UserChangeSink.class);
+        relay = new UserChangeRelay(repository, sink, new TransactionTemplate(mock(PlatformTransactionManager.class)));
+        ReflectionTestUtils.setField(relay, "batchSize", 100);
+    }
+
+    @Test
+    void sequencesUnderTheLockBeforeRelaying() {
+        when(repository.assignFeedSeq(anyInt())).thenReturn(2);
+        when(repository.lockUnpublished(100)).thenReturn(List.of(event(7L, 1L), event(5L, 2L)));
+
+        relay.relay();
+
+        InOrder order = inOrder(repository, sink);
+        order.verify(repository).lockFeedSequencer(anyLong());
+        order.verify(repository).assignFeedSeq(anyInt());
+        order.verify(repository).lockUnpublished(100);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<UserChangeEventDto>> batch = ArgumentCaptor.forClass(List.class);
+        order.verify(sink).publish(batch.capture());
+        order.verify(repository).markPublished(any(), any());
+        assertEquals(List.of(1L, 2L), batch.getValue().stream().map(UserChangeEventDto::getSequence).toList());
+    }
+
+    @Test
+    void keepsSequencingWhileBatchesAreFull() {
+        when(repository.assignFeedSeq(anyInt())).thenReturn(5000, 5000, 12);
+        when(repository.lockUnpublished(anyInt())).thenReturn(List.of());
+
+        relay.relay();
+
+        verify(repository, times(3)).lockFeedSequencer(anyLong());
+        verify(repository, times(3)).assignFeedSeq(5000);
+        verify(sink, never()).publish(any());
+    }
+
+    private static UserChangeEvent event(Long id, Long sequence) {
+        UserChangeEvent event = new UserChangeEvent();
+        event.setId(id);
+        event.setFeedSeq(sequence);
+        event.setUserId(id * 100);
+        event.setChangeType(UserChangeType.UPDATED);
+        event.setPayload("{}");
+        return event;
+    }
+}
@@ -0,0 +1,110 @@
+package com.cognify.service;
+
+import com.cognify.dto.UserChangePage;
+import com.cognify.entity.UserChangeEvent;
+import com.cognify.entity.UserChangeType;
+import com.cognify.repository.UserChangeEventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserChangeServiceImplTest {
+
+    private UserChangeEventRepository repository;
+    private UserChangeServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(UserChangeEventRepository.class);
+        service = new UserChangeServiceImpl(repository, new ObjectMapper());
+    }
+
+    @Test
+    void fullPageWithExtraRowHasMoreAndCursorAtLastReturnedSequence() {
+        when(repository.findByFeedSeqGreaterThanOrderByFeedSeqAsc(eq(10L), any())).thenReturn(events(11, 12, 13, 14));
+
+        UserChangePage page = service.getChangesSince(10L, 3);
+
+        assertEquals(List.of(11L, 12L, 13L), sequences(page));
+        assertTrue(page.isHasMore());
+        assertEquals(13L, page.getNextSince());
+        verify(repository).findByFeedSeqGreaterThanOrderByFeedSeqAsc(10L, PageRequest.of(0, 4));
+    }
+
+    @Test
+    void exactlyFullPageHasNoMore() {
+        when(repository.findByFeedSeqGreaterThanOrderByFeedSeqAsc(eq(10L), any())).thenReturn(events(11, 12, 13));
+
+        UserChangePage page = service.getChangesSince(10L, 3);
+
+        assertEquals(List.of(11L, 12L, 13L), sequences(page));
+        assertFalse(page.isHasMore());
+        assertEquals(13L, page.getNextSince());
+    }
+
+    @Test
+    void emptyPageKeepsCursor() {
+        when(repository.findByFeedSeqGreaterThanOrderByFeedSeqAsc(eq(42L), any())).thenReturn(List.of());
+
+        UserChangePage page = service.getChangesSince(42L, 100);
+
+        assertTrue(page.getChanges().isEmpty());
+        assertFalse(page.isHasMore());
+        assertEquals(42L, page.getNextSince());
+    }
+
+    @Test
+    void nullSinceStartsFromBeginning() {
+        when(repository.findByFeedSeqGreaterThanOrderByFeedSeqAsc(anyLong(), any())).thenReturn(List.of());
+
+        UserChangePage page = service.getChangesSince(null, 100);
+
+        assertEquals(0L, page.getNextSince());
+        verify(repository).findByFeedSeqGreaterThanOrderByFeedSeqAsc(0L, PageRequest.of(0, 101));
+    }
+
+    @Test
+    void pageSizeIsClamped() {
+        when(repository.findByFeedSeqGreaterThanOrderByFeedSeqAsc(anyLong(), any())).thenReturn(List.of());
+
+        service.getChangesSince(0L, 0);
+        service.getChangesSince(0L, 10_000);
+
+        verify(repository).findByFeedSeqGreaterThanOrderByFeedSeqAsc(0L, PageRequest.of(0, 2));
+        verify(repository).findByFeedSeqGreaterThanOrderByFeedSeqAsc(0L, PageRequest.of(0, 501));
+    }
+
+    // Ids deliberately out of sequence order: the cursor must follow the sequence
+    private static List<UserChangeEvent> events(long... sequences) {
+        List<UserChangeEvent> events = new ArrayList<>();
+        for (long sequence : sequences) {
+            long id = 1000 - sequence;
+            UserChangeEvent event = new UserChangeEvent();
+            event.setId(id);
+            event.setFeedSeq(sequence);
+            event.setUserId(id * 100);
+            event.setChangeType(UserChangeType.UPDATED);
+            event.setPayload("{}");
+            events.add(event);
+        }
+        return events;
+    }
+
+    private static List<Long> sequences(UserChangePage page) {
+        return page.getChanges().stream().map(change -> change.getSequence()).toList();
+    }
+}
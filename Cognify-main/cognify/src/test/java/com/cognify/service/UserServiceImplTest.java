@@ -0,0 +1,138 @@
+package com.cognify.service;
+
+import com.cognify.dto.UserDto;
+import com.cognify.dto.UserField;
+import com.cognify.exception.BadRequestException;
+import com.cognify.repository.UserIdentityRepository;
+import com.cognify.repository.UserRepository;
+import com.cognify.service.cache.UserCacheInvalidator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.modelmapper.ModelMapper;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserServiceImplTest {
+
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private UserIdentityRepository userIdentityRepository;
+    @Mock
+    private ModelMapper modelMapper;
+    @Mock
+    private PasswordEncoder passwordEncoder;
+    @Mock
+    private UserChangeService userChangeService;
+    @Mock
+    private SchoolStatsService schoolStatsService;
+    @Mock
+    private UserCacheInvalidator userCacheInvalidator;
+    @Mock
+    private TenantService tenantService;
+
+    @InjectMocks
+    private UserServiceImpl userService;
+
+    @Test
+    void getUsersByIdsPreservesRequestOrder() {
+        when(userRepository.findProjected(any(), any())).thenReturn(users(1L, 2L, 3L));
+
+        List<UserDto> result = userService.getUsersByIds(List.of(3L, 1L, 2L), null);
+
+        assertEquals(List.of(3L, 1L, 2L), ids(result));
+    }
+
+    @Test
+    void getUsersByIdsQueriesEachIdOnceAndReturnsItOnce() {
+        when(userRepository.findProjected(any(), any())).thenReturn(users(1L, 2L));
+
+        List<UserDto> result = userService.getUsersByIds(List.of(2L, 1L, 2L, 1L), null);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<Long>> idsCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(userRepository).findProjected(eq(EnumSet.allOf(UserField.class)), idsCaptor.capture());
+        assertEquals(List.of(2L, 1L), new ArrayList<>(idsCaptor.getValue()));
+        assertEquals(List.of(2L, 1L), ids(result));
+    }
+
+    @Test
+    void getUsersByIdsSkipsUnknownIds() {
+        when(userRepository.findProjected(any(), any())).thenReturn(users(5L));
+
+        List<UserDto> result = userService.getUsersByIds(List.of(4L, 5L, 6L), null);
+
+        assertEquals(List.of(5L), ids(result));
+    }
+
+    @Test
+    void getUsersByIdsAcceptsExactlyTheCap() {
+        List<Long> ids = LongStream.rangeClosed(1, 500).boxed().collect(Collectors.toList());
+        when(userRepository.findProjected(any(), any())).thenReturn(List.of());
+
+        assertTrue(userService.getUsersByIds(ids, null).isEmpty());
+    }
+
+    @Test
+    void getUsersByIdsRejectsMoreThanTheCap() {
+        List<Long> ids = LongStream.rangeClosed(1, 501).boxed().collect(Collectors.toList());
+
+        assertThrows(BadRequestException.class, () -> userService.getUsersByIds(ids, null));
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void getUsersByIdsRejectsUnknownField() {
+        assertThrows(BadRequestException.class,
+                () -> userService.getUsersByIds(List.of(1L), Set.of("username", "password")));
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void getUsersByIdsDropsIdWhenNotRequested() {
+        when(userRepository.findProjected(any(), any())).thenReturn(users(7L));
+
+        List<UserDto> result = userService.getUsersByIds(List.of(7L), Set.of("username"));
+
+        verify(userRepository).findProjected(eq(EnumSet.of(UserField.USERNAME)), any());
+        assertNull(result.get(0).getId());
+        assertEquals("user7", result.get(0).getUsername());
+    }
+
+    private static List<UserDto> users(Long... ids) {
+        List<UserDto> users = new ArrayList<>();
+        for (Long id : ids) {
+            UserDto user = new UserDto();
+            user.setId(id);
+            user.setUsername("user" + id);
+            users.add(user);
+        }
+        return users;
+    }
+
+    private static List<Long> ids(List<UserDto> users) {
+        return users.stream().map(UserDto::getId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,30 @@
+package com.cognify.service.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class UserCacheInvalidatorTest {
+
+    @Test
+    void originEvictsLocallyAndRemoteNodeEvictsOnMessage() {
+        LocalCacheInvalidationBus bus = new LocalCacheInvalidationBus();
+        UserCacheRegions originRegions = mock(UserCacheRegions.class);
+        UserCacheRegions remoteRegions = mock(UserCacheRegions.class);
+        UserCacheInvalidator origin = new UserCacheInvalidator(bus, originRegions);
+        new UserCacheInvalidator(bus, remoteRegions);
+
+        // No transaction is active, so eviction and publishing happen immediately
+        origin.invalidate("springfield-high", 42L, List.of("old-name", "new-name"));
+
+        // Only the changed user's entries, under its tenant
+        verify(remoteRegions).evict("springfield-high", 42L, List.of("old-name", "new-name"));
+
+        // The origin evicts once itself and ignores its own message on the bus
+        verify(originRegions, times(1)).evict("springfield-high", 42L, List.of("old-name", "new-name"));
+    }
+}
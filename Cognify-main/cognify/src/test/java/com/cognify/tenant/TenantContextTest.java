@@ -0,0 +1,85 @@
+package com.cognify.tenant;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TenantContextTest {
+
+    // The SQL backfills compute the key as
+    //   COALESCE(NULLIF(trim(BOTH '-' FROM regexp_replace(lower(trim(x)), '[^a-z0-9]+', '-', 'g')), ''), 'default')
+    private static final String SQL_KEY_EXPRESSION_PREFIX = "NULLIF(trim(BOTH '-' FROM regexp_replace(lower(trim(";
+    private static final String SQL_KEY_EXPRESSION_SUFFIX = ")), '[^a-z0-9]+', '-', 'g')), ''),";
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+    }
+
+    @Test
+    void tenantKeyMatchesTheSqlBackfillRule() {
+        assertEquals("springfield-high", TenantContext.tenantKeyFor("Springfield High"));
+        assertEquals("ps-118", TenantContext.tenantKeyFor("PS 118"));
+        // Runs of punctuation and spaces collapse into one dash; leading/trailing dashes go
+        assertEquals("st-mary-s-academy", TenantContext.tenantKeyFor("  St. Mary's -- Academy!! "));
+        // SQL trim() only strips spaces, but the tab and newline become dashes that are trimmed too
+        assertEquals("springfield-high", TenantContext.tenantKeyFor("\tSpringfield\nHigh\n"));
+        // Non-ASCII letters fall outside [a-z0-9] in both
+        assertEquals("cole-n-5", TenantContext.tenantKeyFor("École Nº 5"));
+    }
+
+    @Test
+    void tenantKeyFallsBackToDefault() {
+        assertEquals(TenantContext.DEFAULT_TENANT, TenantContext.tenantKeyFor(null));
+        assertEquals(TenantContext.DEFAULT_TENANT, TenantContext.tenantKeyFor(""));
+        assertEquals(TenantContext.DEFAULT_TENANT, TenantContext.tenantKeyFor("   "));
+        assertEquals(TenantContext.DEFAULT_TENANT, TenantContext.tenantKeyFor("--!!--"));
+    }
+
+    @Test
+    void migrationsUseTheSameKeyExpression() throws IOException {
+        String v2 = migration("V2__partition_users_by_tenant.sql");
+        String v5 = migration("V5__tenant_scoped_outbox_and_counters.sql");
+
+        assertTrue(v2.contains(SQL_KEY_EXPRESSION_PREFIX + "school_name" + SQL_KEY_EXPRESSION_SUFFIX));
+        assertTrue(v5.contains(SQL_KEY_EXPRESSION_PREFIX + "payload::jsonb ->> 'schoolName'" + SQL_KEY_EXPRESSION_SUFFIX));
+        assertTrue(v2.contains("'" + TenantContext.DEFAULT_TENANT + "')"));
+        assertTrue(v5.contains("'" + TenantContext.DEFAULT_TENANT + "')"));
+    }
+
+    @Test
+    void unboundContextIsNone() {
+        assertEquals(TenantContext.NONE, TenantContext.getTenantId());
+    }
+
+    @Test
+    void callAsRestoresThePreviousTenant() {
+        TenantContext.setTenantId("springfield-high-0a1b2c3d");
+
+        String inside = TenantContext.callAs("shelbyville-9f8e7d6c", TenantContext::getTenantId);
+
+        assertEquals("shelbyville-9f8e7d6c", inside);
+        assertEquals("springfield-high-0a1b2c3d", TenantContext.getTenantId());
+    }
+
+    @Test
+    void runAsRootLeavesAnUnboundThreadUnbound() {
+        TenantContext.runAsRoot(() -> assertTrue(TenantContext.isRoot()));
+
+        assertEquals(TenantContext.NONE, TenantContext.getTenantId());
+    }
+
+    private static String migration(String name) throws IOException {
+        try (InputStream in = TenantContextTest.class.getResourceAsStream("/db/migration/" + name)) {
+            assertNotNull(in, name);
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.cognify.tenant;
+
+import com.cognify.util.JwtUtil;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class TenantFilterTest {
+
+    private static final String SECRET = "TestSecretKey1234567890123456789012345";
+
+    private JwtUtil jwtUtil;
+    private TenantFilter filter;
+
+    // Tenant seen by the rest of the chain; null when the chain was not called
+    private String boundTenant;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 3_600_000L);
+        filter = new TenantFilter(jwtUtil);
+        boundTenant = null;
+    }
+
+    @Test
+    void authPathsRunAsRoot() throws Exception {
+        MockHttpServletResponse response = run(request("/api/auth/login", null));
+
+        assertEquals(TenantContext.ROOT, boundTenant);
+        assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+    }
+
+    @Test
+    void validTokenBindsItsTenant() throws Exception {
+        String token = jwtUtil.generateToken(user(), "springfield-high-0a1b2c3d");
+
+        run(request("/api/users", "Bearer " + token));
+
+        assertEquals("springfield-high-0a1b2c3d", boundTenant);
+    }
+
+    @Test
+    void tokenWithoutTenantIsRejected() throws Exception {
+        String token = Jwts.builder()
+                .setSubject("alice")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes()), SignatureAlgorithm.HS256)
+                .compact();
+
+        MockHttpServletResponse response = run(request("/api/users", "Bearer " + token));
+
+        assertEquals(HttpServletResponse.SC_UNAUTHORIZED, response.getStatus());
+        assertNull(boundTenant);
+    }
+
+    @Test
+    void invalidTokensAreRejected() throws Exception {
+        String otherKeyToken = Jwts.builder()
+                .setSubject("alice")
+                .claim(JwtUtil.TENANT_CLAIM, "springfield-high-0a1b2c3d")
+                .signWith(Keys.hmacShaKeyFor("SomeOtherSecretKey123456789012345678".getBytes()), SignatureAlgorithm.HS256)
+                .compact();
+
+        for (String token : List.of("not-a-jwt", otherKeyToken)) {
+            MockHttpServletResponse response = run(request("/api/users", "Bearer " + token));
+
+            assertEquals(HttpServletResponse.SC_UNAUTHORIZED, response.getStatus());
+            assertNull(boundTenant);
+        }
+    }
+
+    @Test
+    void requestWithoutTokenStaysUnbound() throws Exception {
+        run(request("/api/users", null));
+
+        assertEquals(TenantContext.NONE, boundTenant);
+    }
+
+    @Test
+    void tenantIsClearedAfterTheRequest() throws Exception {
+        run(request("/api/users", "Bearer " + jwtUtil.generateToken(user(), "springfield-high-0a1b2c3d")));
+
+        assertEquals(TenantContext.NONE, TenantContext.getTenantId());
+    }
+
+    private MockHttpServletResponse run(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, (req, res) -> boundTenant = TenantContext.getTenantId());
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String uri, String authorization) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        if (authorization != null) {
+            request.addHeader("Authorization", authorization);
+        }
+        return request;
+    }
+
+    private static User user() {
+        return new User("alice", "password", List.of());
+    }
+}
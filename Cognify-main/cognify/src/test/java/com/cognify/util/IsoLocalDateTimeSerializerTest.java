@@ -0,0 +1,58 @@
+package com.cognify.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class IsoLocalDateTimeSerializerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new SimpleModule().addSerializer(LocalDateTime.class, new IsoLocalDateTimeSerializer()));
+
+    static Stream<LocalDateTime> values() {
+        return Stream.of(
+                LocalDateTime.of(2024, 3, 7, 9, 5, 4),
+                LocalDateTime.of(2024, 3, 7, 9, 5, 4, 1),
+                LocalDateTime.of(2024, 3, 7, 9, 5, 4, 100_000_000),
+                LocalDateTime.of(2024, 3, 7, 9, 5, 4, 123_456_000),
+                LocalDateTime.of(2024, 3, 7, 9, 5, 4, 999_999_999),
+                LocalDateTime.of(2024, 12, 31, 23, 59, 0),
+                LocalDateTime.of(0, 1, 1, 0, 0),
+                LocalDateTime.of(9999, 12, 31, 23, 59, 59, 999_999_999),
+                LocalDateTime.of(10000, 1, 1, 0, 0),
+                LocalDateTime.of(-1, 1, 1, 0, 0));
+    }
+
+    @ParameterizedTest
+    @MethodSource("values")
+    void matchesIsoLocalDateTime(LocalDateTime value) throws Exception {
+        assertEquals("\"" + value.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME) + "\"",
+                objectMapper.writeValueAsString(value));
+    }
+
+    @Test
+    void dropsZeroSecondsFractionButKeepsSeconds() throws Exception {
+        assertEquals("\"2024-12-31T23:59:00\"", objectMapper.writeValueAsString(LocalDateTime.of(2024, 12, 31, 23, 59)));
+    }
+
+    @Test
+    void trimsTrailingZerosFromFraction() throws Exception {
+        assertEquals("\"2024-03-07T09:05:04.1\"",
+                objectMapper.writeValueAsString(LocalDateTime.of(2024, 3, 7, 9, 5, 4, 100_000_000)));
+        assertEquals("\"2024-03-07T09:05:04.000000001\"",
+                objectMapper.writeValueAsString(LocalDateTime.of(2024, 3, 7, 9, 5, 4, 1)));
+    }
+
+    @Test
+    void yearsOutsideFourDigitsUseTheFormatter() throws Exception {
+        assertEquals("\"+10000-01-01T00:00:00\"", objectMapper.writeValueAsString(LocalDateTime.of(10000, 1, 1, 0, 0)));
+    }
+}